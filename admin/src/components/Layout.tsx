@@ -1,8 +1,10 @@
 import { Link, useLocation } from 'react-router-dom';
 import { cn } from '@/lib/utils';
+import { useCatalogChanges } from '@/hooks/usePlants';
 
 export function Layout({ children }: { children: React.ReactNode }) {
   const location = useLocation();
+  useCatalogChanges();
 
   const isActive = (path: string) => {
     return location.pathname === path;
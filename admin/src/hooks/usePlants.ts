@@ -2,15 +2,20 @@
  * TanStack Query hooks for plants API.
  */
 
+import { useEffect } from 'react';
 import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query';
 import {
   createPlant,
   deletePlant,
+  getChangesUrl,
   getPlant,
   getPlants,
   updatePlant,
 } from '@/lib/api';
+import { plantGroupKeys } from '@/hooks/usePlantGroups';
+import { imageKeys } from '@/hooks/useImages';
 import type {
+  CatalogChange,
   CreatePlantRequest,
   PlantResponse,
   UpdatePlantRequest,
@@ -106,3 +111,47 @@ export const useDeletePlant = () => {
     },
   });
 };
+
+// ============================================================================
+// Change Feed
+// ============================================================================
+
+/**
+ * Invalidate cached queries from the server change feed, so edits made in
+ * other tabs or by other admins show up without refetching everything.
+ */
+export const useCatalogChanges = () => {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    const source = new EventSource(getChangesUrl());
+
+    source.addEventListener('change', (event) => {
+      const change: CatalogChange = JSON.parse((event as MessageEvent).data);
+      switch (change.entity) {
+        case 'PLANT':
+          queryClient.invalidateQueries({ queryKey: plantKeys.list() });
+          // Group plant counts change with plant creation, moves and deletion
+          queryClient.invalidateQueries({ queryKey: plantGroupKeys.list() });
+          if (change.id) {
+            queryClient.invalidateQueries({ queryKey: plantKeys.detail(change.id) });
+          }
+          break;
+        case 'GROUP':
+          queryClient.invalidateQueries({ queryKey: plantGroupKeys.list() });
+          if (change.id) {
+            queryClient.invalidateQueries({ queryKey: plantGroupKeys.detail(change.id) });
+          }
+          break;
+        case 'IMAGE':
+          queryClient.invalidateQueries({ queryKey: imageKeys.lists() });
+          break;
+      }
+    });
+    source.addEventListener('reset', () => {
+      queryClient.invalidateQueries();
+    });
+
+    return () => source.close();
+  }, [queryClient]);
+};
@@ -290,3 +290,13 @@ export const uploadImage = async (file: File): Promise<UploadImageResponse> => {
 export const getImageUrl = (imageId: string): string => {
   return `${API_BASE_URL}/api/images/${encodeURIComponent(imageId)}`;
 };
+
+/**
+ * Get the URL of the catalog change feed (Server-Sent Events).
+ * This is a public endpoint (not under /admin).
+ *
+ * @returns Full URL to the change stream
+ */
+export const getChangesUrl = (): string => {
+  return `${API_BASE_URL}/api/changes`;
+};
@@ -264,13 +264,14 @@ const PlantGroups = () => {
                 <TableHead>ID</TableHead>
                 <TableHead>Name</TableHead>
                 <TableHead>Image</TableHead>
+                <TableHead className="text-right">Plants</TableHead>
                 <TableHead className="text-right">Actions</TableHead>
               </TableRow>
             </TableHeader>
             <TableBody>
               {plantGroups?.length === 0 && (
                 <TableRow>
-                  <TableCell colSpan={4} className="text-center text-muted-foreground">
+                  <TableCell colSpan={5} className="text-center text-muted-foreground">
                     No plant groups found. Create one to get started.
                   </TableCell>
                 </TableRow>
@@ -290,6 +291,7 @@ const PlantGroups = () => {
                       <span className="text-muted-foreground text-sm">No image</span>
                     )}
                   </TableCell>
+                  <TableCell className="text-right tabular-nums">{group.plantCount}</TableCell>
                   <TableCell className="text-right space-x-2">
                     <Button
                       variant="outline"
@@ -14,6 +14,9 @@ export interface PlantGroupResponse {
   id: string;
   name: string;
   imageId: string | null;
+  imagePlaceholder: string | null; // Inline data URI painted before the image loads
+  imageColor: string | null; // Dominant color as #rrggbb
+  plantCount: number;
 }
 
 /**
@@ -25,6 +28,8 @@ export interface PlantSummaryResponse {
   name: string;
   scientificName: string;
   thumbnailId: string;
+  thumbnailPlaceholder: string | null; // Inline data URI painted before the image loads
+  thumbnailColor: string | null; // Dominant color as #rrggbb
 }
 
 /**
@@ -37,6 +42,8 @@ export interface PlantResponse {
   scientificName: string;
   thumbnailId: string;
   imageIds: string[]; // Backend uses String[] - matches Java array
+  thumbnail: ImageReference | null;
+  images: ImageReference[];
   description: string;
   size: string;
   toxicity: string;
@@ -67,6 +74,17 @@ export interface Issue {
   solution: string;
 }
 
+/**
+ * Image metadata embedded in other responses.
+ * Width/height are null when the image header could not be read.
+ */
+export interface ImageReference {
+  id: string;
+  width: number | null;
+  height: number | null;
+  byteSize: number | null;
+}
+
 /**
  * Image response.
  */
@@ -75,6 +93,9 @@ export interface ImageResponse {
   filename: string;
   contentType: string;
   createdDate: string; // ISO 8601 datetime string from Java LocalDateTime
+  width: number | null;
+  height: number | null;
+  byteSize: number | null;
 }
 
 /**
@@ -209,3 +230,13 @@ export class ApiError extends Error {
     this.name = 'ApiError';
   }
 }
+
+/**
+ * Entry of the /api/changes Server-Sent Events feed
+ */
+export interface CatalogChange {
+  version: number;
+  entity: 'PLANT' | 'GROUP' | 'IMAGE' | 'CATALOG';
+  id?: string;
+  type: 'CREATED' | 'UPDATED' | 'DELETED' | 'RESET';
+}
@@ -0,0 +1,113 @@
+package com.plants.backend;
+
+import com.plants.backend.dto.CatalogGenerationRequest;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.service.CatalogGenerator;
+import com.plants.backend.service.SeedProgress;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of dirty checking on the write paths: a persistence context holding many plants is
+ * flushed after changing one of them, as the admin and seed writes do. With bytecode
+ * enhancement Hibernate asks each entity for its tracked changes; without it, it compares
+ * every attribute against the snapshot taken at load. Compare a normal run with one built
+ * with -PnoEnhancement; gc.alloc.rate.norm of loadAndFlush includes the snapshots.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DirtyCheckingBenchmark {
+
+    @Param({"1000"})
+    private int plants;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+
+    // Per invocation: a transaction with all plants loaded
+    private EntityManager entityManager;
+    private List<Plant> loaded;
+    private long changes;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(PlantsBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--plants.invalidation.enabled=false");
+        context.getBean(CatalogGenerator.class).generate(
+                new CatalogGenerationRequest(20, plants, 20, 64, 64, 42L), new SeedProgress());
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void load() {
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        loaded = loadPlants(entityManager);
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+    }
+
+    /**
+     * Dirty checking alone: one changed plant among all loaded ones.
+     */
+    @Benchmark
+    public void flushOneChange() {
+        loaded.get(0).setDescription("Changed " + changes++);
+        entityManager.flush();
+    }
+
+    /**
+     * The whole write path, including reading the plants and keeping their load state.
+     */
+    @Benchmark
+    public void loadAndFlush() {
+        EntityManager writer = entityManagerFactory.createEntityManager();
+        try {
+            writer.getTransaction().begin();
+            loadPlants(writer).get(0).setDescription("Changed " + changes++);
+            writer.flush();
+        } finally {
+            writer.getTransaction().rollback();
+            writer.close();
+        }
+    }
+
+    private List<Plant> loadPlants(EntityManager entityManager) {
+        return entityManager.createQuery("select p from Plant p", Plant.class).getResultList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.plants.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.plants.backend.dto.PlantSummaryResponse;
+import com.plants.backend.dto.SeedData;
+import com.plants.backend.dto.SeedPlant;
+import com.plants.backend.entity.CareGuide;
+import com.plants.backend.entity.Image;
+import com.plants.backend.entity.Issue;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.mapper.PlantJsonComponent;
+import com.plants.backend.mapper.PlantMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering the public plant endpoints: mapping to DTOs and letting Jackson reflect
+ * over them, against writing the entity straight to the generator with PlantJsonComponent.
+ * Run with the gc profiler (enabled in build.gradle) and compare gc.alloc.rate.norm, the
+ * bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PlantSerializationBenchmark {
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private PlantMapper plantMapper;
+    private ObjectMapper dtoMapper;
+    private ObjectMapper directMapper;
+    private Plant plant;
+    private List<PlantSummaryResponse> summaries;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        plantMapper = Mappers.getMapper(PlantMapper.class);
+        dtoMapper = new ObjectMapper();
+        directMapper = new ObjectMapper().registerModule(new SimpleModule()
+                .addSerializer(Plant.class, new PlantJsonComponent.PlantSerializer())
+                .addSerializer(PlantSummaryResponse.class, new PlantJsonComponent.PlantSummarySerializer()));
+
+        try (InputStream input = getClass().getResourceAsStream("/seed-data/plants-data.json")) {
+            SeedData seedData = new ObjectMapper().readValue(input, SeedData.class);
+            List<Plant> plants = seedData.plants().stream().map(PlantSerializationBenchmark::toPlant).toList();
+            plant = plants.getFirst();
+            summaries = plants.stream().map(plantMapper::toSummaryResponse).toList();
+        }
+    }
+
+    @Benchmark
+    public void detailViaDto() throws IOException {
+        dtoMapper.writeValue(sink, plantMapper.toResponse(plant));
+    }
+
+    @Benchmark
+    public void detailDirect() throws IOException {
+        directMapper.writeValue(sink, plant);
+    }
+
+    @Benchmark
+    public void listViaBeanSerializer() throws IOException {
+        dtoMapper.writeValue(sink, summaries);
+    }
+
+    @Benchmark
+    public void listDirect() throws IOException {
+        directMapper.writeValue(sink, summaries);
+    }
+
+    /**
+     * Build a detached plant as the detail load leaves it, with filenames standing in for image ids.
+     */
+    private static Plant toPlant(SeedPlant seed) {
+        Plant plant = new Plant();
+        plant.setId(seed.id());
+        plant.setGroupId(seed.groupId());
+        plant.setName(seed.name());
+        plant.setScientificName(seed.scientificName());
+        plant.setThumbnailId(seed.thumbnailFilename());
+        plant.setThumbnail(image(seed.thumbnailFilename(), 400, 400, 20_000L));
+        plant.setImages(seed.imageFilenames().stream()
+                .map(filename -> image(filename, 1200, 800, 150_000L))
+                .toList());
+        plant.setDescription(seed.description());
+        plant.setSize(seed.size());
+        plant.setToxicity(seed.toxicity());
+        plant.setBenefits(seed.benefits().toArray(new String[0]));
+        plant.setCare(new CareGuide(seed.care().watering(), seed.care().light(), seed.care().temperature(),
+                seed.care().humidity(), seed.care().soil(), seed.care().fertilizing()));
+        plant.setCommonIssues(seed.commonIssues().stream().map(seedIssue -> {
+            Issue issue = new Issue();
+            issue.setIssue(seedIssue.issue());
+            issue.setSolution(seedIssue.solution());
+            return issue;
+        }).toList());
+        return plant;
+    }
+
+    private static Image image(String id, int width, int height, long byteSize) {
+        Image image = new Image();
+        image.setId(id);
+        image.setWidth(width);
+        image.setHeight(height);
+        image.setByteSize(byteSize);
+        image.setPlaceholder("data:image/jpeg;base64,/9j/4AAQSkZJRgABAQ");
+        image.setDominantColor("#5a7d3c");
+        return image;
+    }
+}
@@ -0,0 +1,114 @@
+package com.plants.backend;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.plants.backend.dto.CareGuideDto;
+import com.plants.backend.dto.ImageReferenceDto;
+import com.plants.backend.dto.IssueDto;
+import com.plants.backend.dto.PlantResponse;
+import com.plants.backend.dto.SeedData;
+import com.plants.backend.dto.SeedPlant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of the seed catalog as full plant responses in JSON, CBOR and Smile.
+ * Payload sizes are printed once per trial, next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private JavaType plantListType;
+    private List<PlantResponse> plants;
+    private PlantResponse plant;
+    private byte[] encodedPlants;
+    private byte[] encodedPlant;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        plantListType = mapper.getTypeFactory().constructCollectionType(List.class, PlantResponse.class);
+
+        try (InputStream input = getClass().getResourceAsStream("/seed-data/plants-data.json")) {
+            SeedData seedData = new ObjectMapper().readValue(input, SeedData.class);
+            plants = seedData.plants().stream().map(SerializationFormatBenchmark::toResponse).toList();
+        }
+        plant = plants.getFirst();
+        encodedPlants = mapper.writeValueAsBytes(plants);
+        encodedPlant = mapper.writeValueAsBytes(plant);
+
+        System.out.printf("%n%s payload: catalog %d bytes, single plant %d bytes%n",
+                format, encodedPlants.length, encodedPlant.length);
+    }
+
+    @Benchmark
+    public byte[] encodeCatalog() throws IOException {
+        return mapper.writeValueAsBytes(plants);
+    }
+
+    @Benchmark
+    public List<PlantResponse> decodeCatalog() throws IOException {
+        return mapper.readValue(encodedPlants, plantListType);
+    }
+
+    @Benchmark
+    public byte[] encodePlant() throws IOException {
+        return mapper.writeValueAsBytes(plant);
+    }
+
+    @Benchmark
+    public PlantResponse decodePlant() throws IOException {
+        return mapper.readValue(encodedPlant, PlantResponse.class);
+    }
+
+    /**
+     * Shape a seed plant like the API response, with filenames standing in for image ids.
+     */
+    private static PlantResponse toResponse(SeedPlant seed) {
+        List<ImageReferenceDto> images = seed.imageFilenames().stream()
+                .map(filename -> new ImageReferenceDto(filename, 1200, 800, 150_000L))
+                .toList();
+        return new PlantResponse(
+                seed.id(),
+                seed.groupId(),
+                seed.name(),
+                seed.scientificName(),
+                seed.thumbnailFilename(),
+                seed.imageFilenames().toArray(new String[0]),
+                new ImageReferenceDto(seed.thumbnailFilename(), 400, 400, 20_000L),
+                images,
+                seed.description(),
+                seed.size(),
+                seed.toxicity(),
+                seed.benefits().toArray(new String[0]),
+                new CareGuideDto(seed.care().watering(), seed.care().light(), seed.care().temperature(),
+                        seed.care().humidity(), seed.care().soil(), seed.care().fertilizing()),
+                seed.commonIssues().stream().map(issue -> new IssueDto(issue.issue(), issue.solution())).toList()
+        );
+    }
+}
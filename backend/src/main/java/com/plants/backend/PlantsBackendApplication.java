@@ -1,13 +1,22 @@
 package com.plants.backend;
 
+import com.plants.backend.service.CatalogGeneratorRunner;
+import org.springframework.boot.DefaultApplicationArguments;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class PlantsBackendApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(PlantsBackendApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(PlantsBackendApplication.class, args);
+        // The catalog generator has run by now; stop background work and exit with the context's exit code
+        if (new DefaultApplicationArguments(args).containsOption(CatalogGeneratorRunner.OPTION)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
@@ -0,0 +1,126 @@
+package com.plants.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency, in the style of the gradient algorithm:
+ * a short-term average of request latency is compared against a long-term one. While recent
+ * requests are about as fast as usual the limit grows by roughly its square root, and as they
+ * slow down (requests queueing for database connections) it shrinks proportionally.
+ * Failed requests cut the limit multiplicatively, as in AIMD.
+ * <p>
+ * Requests beyond the limit are rejected immediately rather than queued, so the ones that are
+ * admitted keep their latency.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_ALPHA = 0.1;
+    private static final double LONG_RTT_ALPHA = 1.0 / 600;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+
+        Gauge.builder("plants.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for public endpoints")
+                .register(meterRegistry);
+        Gauge.builder("plants.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Public requests currently being served")
+                .register(meterRegistry);
+        rejected = Counter.builder("plants.concurrency.rejected")
+                .description("Public requests rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admit a request if the limit allows it. Every admitted request must be
+     * followed by exactly one {@link #release(long, boolean)}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Finish an admitted request and feed its latency into the limit.
+     *
+     * @param latencyNanos how long the request took
+     * @param dropped      whether it failed on the server side, e.g. timed out waiting for a connection
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int concurrent = inFlight.getAndDecrement();
+        if (dropped) {
+            onDrop();
+        } else {
+            onSample(latencyNanos, concurrent);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getRejectedCount() {
+        return rejected.count();
+    }
+
+    private synchronized void onDrop() {
+        limit = clamp(limit * DROP_BACKOFF);
+    }
+
+    private synchronized void onSample(long latencyNanos, int concurrent) {
+        double rtt = Math.max(1, latencyNanos);
+        if (shortRtt == 0) {
+            shortRtt = rtt;
+            longRtt = rtt;
+            return;
+        }
+        shortRtt += (rtt - shortRtt) * SHORT_RTT_ALPHA;
+        longRtt += (rtt - longRtt) * LONG_RTT_ALPHA;
+
+        // After a slow period the long-term average lags far behind; let it catch up
+        // so the limit can grow again once latency has recovered
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Only grow the limit when it is actually being used, otherwise it
+        // drifts to the maximum during quiet periods and protects nothing
+        if (concurrent < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, properties.rttTolerance() * longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - properties.smoothing()) + estimate * properties.smoothing());
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.minLimit(), Math.min(properties.maxLimit(), value));
+    }
+}
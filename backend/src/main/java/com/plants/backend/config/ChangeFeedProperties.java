@@ -0,0 +1,19 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Change feed settings.
+ *
+ * @param bufferSize     number of recent changes kept for Last-Event-ID replay
+ * @param emitterTimeout how long an SSE connection stays open; clients reconnect and resume afterwards
+ */
+@ConfigurationProperties(prefix = "plants.changes")
+public record ChangeFeedProperties(
+        @DefaultValue("1000") int bufferSize,
+        @DefaultValue("5m") Duration emitterTimeout
+) {
+}
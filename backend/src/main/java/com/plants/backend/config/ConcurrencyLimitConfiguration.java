@@ -0,0 +1,39 @@
+package com.plants.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts the adaptive concurrency limit in front of the public read endpoints.
+ * Admin endpoints and the long-lived change feed connections are not limited.
+ * The enabled flag is applied to the filter registration at runtime, so it also
+ * works with AOT-processed output, where conditions are fixed at build time.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ConcurrencyLimitConfiguration {
+
+    static final String[] LIMITED_PATHS = {"/api/plants/*", "/api/plant-groups/*", "/api/images/*"};
+
+    @Bean
+    AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                          MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Bean
+    FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                                                          ObjectMapper objectMapper,
+                                                                          ConcurrencyLimitProperties properties) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, objectMapper, properties));
+        registration.addUrlPatterns(LIMITED_PATHS);
+        registration.setEnabled(properties.enabled());
+        // Reject before any other request processing happens
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
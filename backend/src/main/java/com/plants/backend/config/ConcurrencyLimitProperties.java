@@ -0,0 +1,29 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit for the public read endpoints.
+ *
+ * @param enabled      whether requests are limited at all
+ * @param initialLimit concurrent requests admitted before any latency has been observed
+ * @param minLimit     the limit never drops below this, so a slow database still gets some traffic
+ * @param maxLimit     the limit never grows beyond this
+ * @param rttTolerance how much slower than the long-term latency recent requests may get before the limit shrinks
+ * @param smoothing    weight of each new limit estimate, between 0 and 1
+ * @param retryAfter   advertised to rejected clients in the Retry-After header
+ */
+@ConfigurationProperties(prefix = "plants.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
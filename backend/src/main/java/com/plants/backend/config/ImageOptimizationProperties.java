@@ -0,0 +1,17 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the upload-time image optimization stage.
+ *
+ * @param enabled     whether uploaded JPEG/PNG images are re-encoded before storing
+ * @param jpegQuality JPEG re-encoding quality, between 0.0 and 1.0
+ */
+@ConfigurationProperties(prefix = "plants.images.optimization")
+public record ImageOptimizationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.85") float jpegQuality
+) {
+}
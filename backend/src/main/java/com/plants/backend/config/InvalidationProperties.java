@@ -0,0 +1,23 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Cross-replica cache invalidation over PostgreSQL LISTEN/NOTIFY.
+ *
+ * @param enabled        publish and listen for change notifications
+ * @param channel        notification channel; must be a plain lower-case identifier
+ * @param pollTimeout    how long the listener waits for notifications before checking the connection
+ * @param reconnectDelay pause between attempts to re-establish a lost listener connection
+ */
+@ConfigurationProperties(prefix = "plants.invalidation")
+public record InvalidationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("catalog_changes") String channel,
+        @DefaultValue("10s") Duration pollTimeout,
+        @DefaultValue("5s") Duration reconnectDelay
+) {
+}
@@ -0,0 +1,103 @@
+package com.plants.backend.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends finished spans to a local file, one JSON object per line, so traces can be
+ * inspected (e.g. with jq) without running a collector. Spans of one trace share a
+ * {@code traceId}; {@code parentSpanId} links them into a tree.
+ */
+public class JsonFileSpanExporter implements SpanExporter {
+
+    private final JsonFactory jsonFactory;
+    private final Writer writer;
+
+    public JsonFileSpanExporter(Path file, JsonFactory jsonFactory) throws IOException {
+        this.jsonFactory = jsonFactory;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                write(span);
+                writer.write('\n');
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void write(SpanData span) throws IOException {
+        // The generator must not close the shared writer
+        try (JsonGenerator json = jsonFactory.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            json.writeStartObject();
+            json.writeStringField("traceId", span.getTraceId());
+            json.writeStringField("spanId", span.getSpanId());
+            if (span.getParentSpanContext().isValid()) {
+                json.writeStringField("parentSpanId", span.getParentSpanId());
+            }
+            json.writeStringField("name", span.getName());
+            json.writeStringField("kind", span.getKind().name());
+            json.writeStringField("service", span.getResource().getAttribute(AttributeKey.stringKey("service.name")));
+            json.writeStringField("start", Instant.EPOCH.plusNanos(span.getStartEpochNanos()).toString());
+            json.writeNumberField("durationMicros",
+                    TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+            json.writeStringField("status", span.getStatus().getStatusCode().name());
+
+            json.writeObjectFieldStart("attributes");
+            for (var attribute : span.getAttributes().asMap().entrySet()) {
+                json.writeFieldName(attribute.getKey().getKey());
+                json.writeObject(attribute.getValue());
+            }
+            json.writeEndObject();
+
+            json.writeEndObject();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+}
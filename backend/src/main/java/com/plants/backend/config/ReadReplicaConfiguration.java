@@ -0,0 +1,71 @@
+package com.plants.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Routes read-only transactions to read replicas when at least one is configured.
+ * <p>
+ * The primary data source bean is wrapped in a {@link LazyConnectionDataSourceProxy}:
+ * the physical connection is only fetched on first use, after the transaction manager
+ * has marked it read-only, so read-only transactions can be served by a replica.
+ * Wrapping the existing bean keeps Boot's data source setup (and test replacements) intact.
+ * <p>
+ * Whether replicas are configured is decided at runtime rather than with a condition,
+ * because conditions are fixed at build time when running with AOT-processed output.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReadReplicaConfiguration {
+
+    @Bean
+    ReadReplicas readReplicas(ReadReplicaProperties properties, ObjectProvider<DataSourceProperties> dataSourceProperties) {
+        DataSourceProperties primary = dataSourceProperties.getIfAvailable(DataSourceProperties::new);
+        return new ReadReplicas(properties, primary.getUsername(), primary.getPassword(), Clock.systemUTC());
+    }
+
+    @Bean
+    static ReadReplicaRoutingPostProcessor readReplicaRoutingPostProcessor(ObjectProvider<ReadReplicas> readReplicas) {
+        return new ReadReplicaRoutingPostProcessor(readReplicas);
+    }
+
+    /**
+     * Ordered first, so that data source decorators such as JDBC tracing wrap the routing
+     * proxy and see statements sent to replicas too.
+     */
+    static final class ReadReplicaRoutingPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final ObjectProvider<ReadReplicas> readReplicas;
+
+        ReadReplicaRoutingPostProcessor(ObjectProvider<ReadReplicas> readReplicas) {
+            this.readReplicas = readReplicas;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || !"dataSource".equals(beanName)) {
+                return bean;
+            }
+            ReadReplicas replicas = readReplicas.getObject();
+            if (!replicas.isConfigured()) {
+                return bean;
+            }
+            LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+            proxy.setReadOnlyDataSource(replicas.routing(primary));
+            return proxy;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas that serve read-only transactions.
+ *
+ * @param replicas             replica connection settings; none means everything uses the primary
+ * @param healthCheckInterval  how often replicas are probed; unhealthy ones are skipped until they recover
+ * @param readYourWritesWindow after a catalog change, read-only transactions use the primary for this
+ *                             long so that readers do not observe replication lag
+ */
+@ConfigurationProperties(prefix = "plants.datasource")
+public record ReadReplicaProperties(
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("5s") Duration readYourWritesWindow
+) {
+
+    public ReadReplicaProperties {
+        replicas = replicas != null ? List.copyOf(replicas) : List.of();
+    }
+
+    /**
+     * @param url               JDBC url of the replica
+     * @param username          defaults to the primary's username
+     * @param password          defaults to the primary's password
+     * @param maximumPoolSize   connection pool size for this replica
+     * @param connectionTimeout how long to wait for a connection before falling back to the primary
+     */
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("1s") Duration connectionTimeout
+    ) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.plants.backend.config;
+
+import com.plants.backend.event.CatalogChangeEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pools for the read replicas, with health checking and a
+ * read-your-writes window. {@link #routing(DataSource)} builds the data source
+ * that read-only transactions obtain their connections from.
+ */
+public class ReadReplicas implements DisposableBean {
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadReplicaProperties properties;
+    private final Clock clock;
+    private final ScheduledExecutorService healthChecker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile Instant readYourWritesUntil = Instant.MIN;
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    public ReadReplicas(ReadReplicaProperties properties, String defaultUsername, String defaultPassword, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReadReplicaProperties.Replica config = properties.replicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(config.url());
+            dataSource.setUsername(config.username() != null ? config.username() : defaultUsername);
+            dataSource.setPassword(config.password() != null ? config.password() : defaultPassword);
+            dataSource.setMaximumPoolSize(config.maximumPoolSize());
+            dataSource.setConnectionTimeout(config.connectionTimeout().toMillis());
+            dataSource.setReadOnly(true);
+            // Do not fail startup when a replica is down; the health check picks it up later
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(dataSource));
+        }
+
+        long interval = properties.healthCheckInterval().toMillis();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (isConfigured()) {
+            healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isConfigured() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * Data source for read-only connections: a healthy replica in round-robin order,
+     * or the primary when none is usable or a recent write may not have replicated yet.
+     */
+    public DataSource routing(DataSource primary) {
+        return new AbstractDataSource() {
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = replicaConnection();
+                return connection != null ? connection : primary.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return primary.getConnection(username, password);
+            }
+        };
+    }
+
+    /**
+     * Any change, local or reported by another replica, opens the read-your-writes window.
+     * Local changes open it once committed, so a slow commit does not use up the window.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(CatalogChangeEvent event) {
+        readYourWritesUntil = clock.instant().plus(properties.readYourWritesWindow());
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private Connection replicaConnection() {
+        if (clock.instant().isBefore(readYourWritesUntil)) {
+            return null;
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                // Skip it until the next successful health check
+                replica.healthy = false;
+            }
+        }
+        return null;
+    }
+
+    private void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(1);
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+            }
+        }
+    }
+}
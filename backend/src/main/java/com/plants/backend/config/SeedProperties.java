@@ -0,0 +1,15 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Seeding settings.
+ *
+ * @param chunkSize number of images, groups or plants written and committed per transaction
+ */
+@ConfigurationProperties(prefix = "plants.seed")
+public record SeedProperties(
+        @DefaultValue("50") int chunkSize
+) {
+}
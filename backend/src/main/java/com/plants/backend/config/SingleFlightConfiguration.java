@@ -0,0 +1,31 @@
+package com.plants.backend.config;
+
+import com.plants.backend.entity.Image;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.service.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Coalescing for the hottest single-entity reads, keyed by id. After a deploy or
+ * cache flush these are what hundreds of concurrent requests miss on at once.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SingleFlightConfiguration {
+
+    @Bean
+    SingleFlight<String, Plant> plantLoads(SingleFlightProperties properties,
+                                           PlatformTransactionManager transactionManager,
+                                           MeterRegistry meterRegistry) {
+        return new SingleFlight<>("plant", properties.timeout(), transactionManager, meterRegistry);
+    }
+
+    @Bean
+    SingleFlight<String, Image> imageLoads(SingleFlightProperties properties,
+                                           PlatformTransactionManager transactionManager,
+                                           MeterRegistry meterRegistry) {
+        return new SingleFlight<>("image", properties.timeout(), transactionManager, meterRegistry);
+    }
+}
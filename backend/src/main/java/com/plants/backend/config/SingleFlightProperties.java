@@ -0,0 +1,17 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Request coalescing settings.
+ *
+ * @param timeout how long a caller waits for another caller's in-flight load before loading by itself
+ */
+@ConfigurationProperties(prefix = "plants.single-flight")
+public record SingleFlightProperties(
+        @DefaultValue("5s") Duration timeout
+) {
+}
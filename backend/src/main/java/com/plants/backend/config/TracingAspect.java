@@ -0,0 +1,55 @@
+package com.plants.backend.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observes every public controller, service and mapper call, which the tracer turns into a
+ * span named {@code Class.method} nested under the HTTP request span. JDBC statement spans
+ * (datasource-micrometer) nest under the service span that ran them, so a slow request shows
+ * whether time went to SQL, mapping, or (the gap between the controller span and the end of
+ * the request span) response serialization.
+ * <p>
+ * Runs outside {@code @Transactional}, so service spans include the commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("within(com.plants.backend.controller..*) "
+            + "&& within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object observeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("plants.controller", joinPoint);
+    }
+
+    @Around("within(com.plants.backend.service..*) && within(@org.springframework.stereotype.Service *)")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("plants.service", joinPoint);
+    }
+
+    @Around("execution(public * com.plants.backend.mapper.*Mapper+.*(..))")
+    public Object observeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("plants.mapper", joinPoint);
+    }
+
+    private Object observe(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "." + methodName)
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", methodName)
+                .observeChecked(joinPoint::proceed);
+    }
+}
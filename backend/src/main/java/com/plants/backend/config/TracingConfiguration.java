@@ -0,0 +1,41 @@
+package com.plants.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Exports the spans of Boot's OpenTelemetry tracer to the exporter chosen by
+ * {@link TracingProperties}. Incoming W3C {@code traceparent} headers, passed on unchanged
+ * by the nginx proxies, continue the caller's trace.
+ * <p>
+ * The exporter is chosen at runtime rather than with a condition, because conditions are
+ * fixed at build time when running with AOT-processed output.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TracingConfiguration {
+
+    @Bean
+    SpanExporter spanExporter(TracingProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.exporter()) {
+            case OTLP -> OtlpHttpSpanExporter.builder()
+                    .setEndpoint(properties.otlpEndpoint())
+                    .build();
+            case FILE -> {
+                try {
+                    yield new JsonFileSpanExporter(properties.file(), objectMapper.getFactory());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot open trace file " + properties.file(), e);
+                }
+            }
+            // An empty composite exports nothing
+            case NONE -> SpanExporter.composite(List.of());
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.plants.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Where trace spans are exported. Spans for requests, controllers, services, mappers and
+ * JDBC statements are produced either way; with {@code none} they are dropped.
+ *
+ * @param exporter     {@code none}, {@code otlp} (OTLP over HTTP to a collector) or {@code file}
+ *                     (one JSON object per span, appended to a local file)
+ * @param otlpEndpoint collector traces endpoint used by the {@code otlp} exporter
+ * @param file         file the {@code file} exporter appends to
+ */
+@ConfigurationProperties(prefix = "plants.tracing")
+public record TracingProperties(
+        @DefaultValue("none") Exporter exporter,
+        @DefaultValue("http://localhost:4318/v1/traces") String otlpEndpoint,
+        @DefaultValue("traces.jsonl") Path file
+) {
+
+    public enum Exporter {
+        NONE,
+        OTLP,
+        FILE
+    }
+}
@@ -3,6 +3,9 @@ package com.plants.backend.controller;
 import com.plants.backend.dto.ImageResponse;
 import com.plants.backend.service.ImageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,12 +23,33 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminImageController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ImageService imageService;
 
+    /**
+     * List image metadata, newest first. Optional filters: filename substring and exact content type.
+     * Without a page parameter all matching images are returned; with it, one page of the given size.
+     * The total number of matches is returned in the X-Total-Count header.
+     */
     @GetMapping
-    public ResponseEntity<List<ImageResponse>> getAllImages() {
-        List<ImageResponse> images = imageService.getAllImages();
-        return ResponseEntity.ok(images);
+    public ResponseEntity<List<ImageResponse>> getAllImages(
+            @RequestParam(required = false) String filename,
+            @RequestParam(required = false) String contentType,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "50") int size) {
+        if (page != null && (page < 0 || size < 1 || size > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException(
+                    "page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Pageable pageable = page == null
+                ? Pageable.unpaged(ImageService.NEWEST_FIRST)
+                : PageRequest.of(page, size, ImageService.NEWEST_FIRST);
+        Page<ImageResponse> images = imageService.getImages(filename, contentType, pageable);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(images.getTotalElements()))
+                .body(images.getContent());
     }
 
     @PostMapping
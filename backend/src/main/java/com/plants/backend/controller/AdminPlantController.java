@@ -1,5 +1,6 @@
 package com.plants.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.plants.backend.dto.CreatePlantRequest;
 import com.plants.backend.dto.PlantResponse;
 import com.plants.backend.dto.PlantSummaryResponse;
@@ -21,6 +22,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminPlantController {
 
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final PlantService plantService;
 
     /**
@@ -61,6 +64,17 @@ public class AdminPlantController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Partially update existing plant with a JSON Merge Patch (RFC 7386) document.
+     */
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON)
+    public ResponseEntity<PlantResponse> patchPlant(
+            @PathVariable String id,
+            @RequestBody JsonNode patch) {
+        PlantResponse updated = plantService.patchPlant(id, patch);
+        return ResponseEntity.ok(updated);
+    }
+
     /**
      * Delete plant.
      */
@@ -1,5 +1,6 @@
 package com.plants.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.plants.backend.dto.CreatePlantGroupRequest;
 import com.plants.backend.dto.PlantGroupResponse;
 import com.plants.backend.dto.UpdatePlantGroupRequest;
@@ -60,6 +61,17 @@ public class AdminPlantGroupController {
         return ResponseEntity.ok(group);
     }
 
+    /**
+     * Partially update a plant group with a JSON Merge Patch (RFC 7386) document.
+     */
+    @PatchMapping(value = "/{id}", consumes = AdminPlantController.MERGE_PATCH_JSON)
+    public ResponseEntity<PlantGroupResponse> patchGroup(
+            @PathVariable String id,
+            @RequestBody JsonNode patch) {
+        PlantGroupResponse group = plantGroupService.patchGroup(id, patch);
+        return ResponseEntity.ok(group);
+    }
+
     /**
      * Delete a plant group.
      */
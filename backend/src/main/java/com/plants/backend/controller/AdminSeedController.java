@@ -1,65 +1,114 @@
 package com.plants.backend.controller;
 
+import com.plants.backend.dto.CatalogGenerationRequest;
+import com.plants.backend.dto.SeedJobResponse;
+import com.plants.backend.service.CatalogGenerator;
+import com.plants.backend.service.SeedJob;
+import com.plants.backend.service.SeedJobService;
+import com.plants.backend.service.SeedProgress;
 import com.plants.backend.service.SeedService;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
-import java.util.Map;
+import java.net.URI;
 
 /**
  * Admin controller for database seeding operations.
  * Provides endpoints to populate and reset database with initial plant data.
+ * These, and synthetic catalog generation, run as background jobs: they answer 202
+ * with the job, whose progress is polled from the URI in the Location header.
  */
 @RestController
 @RequestMapping("/api/admin")
 public class AdminSeedController {
 
+    private final SeedJobService seedJobService;
     private final SeedService seedService;
+    private final CatalogGenerator catalogGenerator;
 
-    public AdminSeedController(SeedService seedService) {
+    public AdminSeedController(SeedJobService seedJobService, SeedService seedService,
+                               CatalogGenerator catalogGenerator) {
+        this.seedJobService = seedJobService;
         this.seedService = seedService;
+        this.catalogGenerator = catalogGenerator;
     }
 
     /**
-     * Seeds the database with initial plant data from fixtures.
+     * Starts seeding the database with initial plant data from fixtures.
      * Loads images and plant data from classpath resources.
      *
-     * @return Success message
+     * @return The started job; 409 if another job is still running
      */
     @PostMapping("/seed")
-    public ResponseEntity<Map<String, String>> seedDatabase() {
-        try {
-            seedService.seedDatabase();
-            return ResponseEntity.ok(Map.of("message", "Database seeded successfully"));
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("message", "Failed to seed database: " + e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("message", "Unexpected error: " + e.getMessage()));
-        }
+    public ResponseEntity<SeedJobResponse> seedDatabase() {
+        return accepted(seedJobService.start(SeedJob.Type.SEED, seedService::seedDatabase));
     }
 
     /**
-     * Resets the database by clearing all data and re-seeding with initial data.
+     * Starts resetting the database by clearing all data and re-seeding with initial data.
      *
-     * @return Success message
+     * @return The started job; 409 if another job is still running
      */
     @PostMapping("/reset")
-    public ResponseEntity<Map<String, String>> resetDatabase() {
-        try {
-            seedService.resetDatabase();
-            return ResponseEntity.ok(Map.of("message", "Database reset and seeded successfully"));
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("message", "Failed to reset database: " + e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("message", "Unexpected error: " + e.getMessage()));
-        }
+    public ResponseEntity<SeedJobResponse> resetDatabase() {
+        return accepted(seedJobService.start(SeedJob.Type.RESET, seedService::resetDatabase));
+    }
+
+    /**
+     * Starts adding a synthetic catalog of the requested size, for scale testing.
+     *
+     * @return The started job; 400 for sizes out of range, 409 if another job is still running
+     */
+    @PostMapping("/generate")
+    public ResponseEntity<SeedJobResponse> generateCatalog(@RequestBody CatalogGenerationRequest request) {
+        catalogGenerator.validate(request);
+        return accepted(seedJobService.start(SeedJob.Type.GENERATE,
+                progress -> catalogGenerator.generate(request, progress)));
+    }
+
+    /**
+     * Progress of a seed, reset or generation job.
+     */
+    @GetMapping("/seed-jobs/{id}")
+    public ResponseEntity<SeedJobResponse> getSeedJob(@PathVariable String id) {
+        return ResponseEntity.ok(toResponse(seedJobService.getJob(id)));
+    }
+
+    /**
+     * Cancels a seed, reset or generation job. It stops after the chunk in progress; data committed so far is kept.
+     */
+    @DeleteMapping("/seed-jobs/{id}")
+    public ResponseEntity<SeedJobResponse> cancelSeedJob(@PathVariable String id) {
+        return ResponseEntity.accepted().body(toResponse(seedJobService.cancel(id)));
+    }
+
+    private ResponseEntity<SeedJobResponse> accepted(SeedJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/seed-jobs/" + job.getId()))
+                .body(toResponse(job));
+    }
+
+    private SeedJobResponse toResponse(SeedJob job) {
+        SeedProgress progress = job.getProgress();
+        return new SeedJobResponse(
+                job.getId(),
+                job.getType(),
+                job.getStatus(),
+                progress.getPhase(),
+                progress.getItemsDone(),
+                progress.getItemsTotal(),
+                progress.getElapsed().toMillis(),
+                progress.getItemsPerSecond(),
+                progress.isCancelRequested(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getError()
+        );
     }
 }
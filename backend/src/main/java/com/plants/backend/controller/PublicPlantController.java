@@ -1,11 +1,18 @@
 package com.plants.backend.controller;
 
-import com.plants.backend.dto.PlantResponse;
+import com.plants.backend.dto.PlantFacetSearchResponse;
+import com.plants.backend.dto.PlantSuggestionResponse;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.service.PlantFacetIndex;
+import com.plants.backend.service.PlantFacets;
 import com.plants.backend.service.PlantService;
+import com.plants.backend.service.PlantSuggestIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Public REST controller for plant operations.
  */
@@ -15,13 +22,41 @@ import org.springframework.web.bind.annotation.*;
 public class PublicPlantController {
 
     private final PlantService plantService;
+    private final PlantFacetIndex plantFacetIndex;
+    private final PlantSuggestIndex plantSuggestIndex;
+
+    /**
+     * Filter plants by facets, e.g. {@code ?facet=toxicity:pet-safe&facet=benefit:low-light},
+     * returning matching plant ids and counts per facet value. Values of the same facet are
+     * alternatives; different facets must all match. Served from the in-memory facet index.
+     */
+    @GetMapping
+    public ResponseEntity<PlantFacetSearchResponse> searchPlants(
+            @RequestParam(name = "facet", required = false) List<String> facets,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(plantFacetIndex.search(PlantFacets.parseFilters(facets), offset, limit));
+    }
+
+    /**
+     * Type-ahead: the most popular plants whose common or scientific name starts with the
+     * prefix, ignoring case and diacritics. Served from the in-memory suggest index.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PlantSuggestionResponse>> suggestPlants(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(plantSuggestIndex.suggest(prefix, limit));
+    }
 
     /**
-     * Get complete plant details by ID.
+     * Get complete plant details by ID. The entity is written in the PlantResponse shape
+     * by PlantJsonComponent, without building the DTO.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PlantResponse> getPlantById(@PathVariable String id) {
-        PlantResponse plant = plantService.getPlantById(id);
+    public ResponseEntity<Plant> getPlantById(@PathVariable String id) {
+        Plant plant = plantService.getPlantDetails(id);
+        plantSuggestIndex.recordView(id);
         return ResponseEntity.ok(plant);
     }
 }
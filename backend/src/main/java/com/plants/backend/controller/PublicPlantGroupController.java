@@ -1,6 +1,7 @@
 package com.plants.backend.controller;
 
 import com.plants.backend.dto.PlantGroupResponse;
+import com.plants.backend.dto.PlantGroupWithPlantsResponse;
 import com.plants.backend.dto.PlantSummaryResponse;
 import com.plants.backend.service.PlantGroupService;
 import com.plants.backend.service.PlantService;
@@ -30,6 +31,34 @@ public class PublicPlantGroupController {
         return ResponseEntity.ok(groups);
     }
 
+    /**
+     * Get all plant groups with the first plants of each, for the home page.
+     */
+    @GetMapping(params = "include=plants")
+    public ResponseEntity<List<PlantGroupWithPlantsResponse>> getAllGroupsWithPlants(
+            @RequestParam(defaultValue = "8") int plantLimit) {
+        List<PlantGroupWithPlantsResponse> groups = plantGroupService.getAllGroupsWithPlants(plantLimit);
+        return ResponseEntity.ok(groups);
+    }
+
+    /**
+     * Get a plant group by ID.
+     */
+    @GetMapping("/{groupId}")
+    public ResponseEntity<PlantGroupResponse> getGroup(@PathVariable String groupId) {
+        PlantGroupResponse group = plantGroupService.getGroupById(groupId);
+        return ResponseEntity.ok(group);
+    }
+
+    /**
+     * Get a plant group together with all its plants.
+     */
+    @GetMapping(value = "/{groupId}", params = "include=plants")
+    public ResponseEntity<PlantGroupWithPlantsResponse> getGroupWithPlants(@PathVariable String groupId) {
+        PlantGroupWithPlantsResponse group = plantGroupService.getGroupWithPlants(groupId);
+        return ResponseEntity.ok(group);
+    }
+
     /**
      * Get plants by group ID.
      */
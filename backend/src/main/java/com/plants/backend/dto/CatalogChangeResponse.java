@@ -0,0 +1,17 @@
+package com.plants.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.plants.backend.event.CatalogChangeEvent;
+
+/**
+ * A single entry of the change feed. Versions come from a database sequence shared by all
+ * replicas, so a version identifies the same change on every replica. They are not contiguous.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CatalogChangeResponse(
+        long version,
+        CatalogChangeEvent.Entity entity,
+        String id,
+        CatalogChangeEvent.Type type
+) {
+}
@@ -0,0 +1,17 @@
+package com.plants.backend.dto;
+
+/**
+ * Size and shape of a synthetic catalog for scale testing.
+ * Plants draw their thumbnail and 1-3 detail images from a shared pool of {@code images}
+ * generated JPEGs of the given dimensions, so popular images are reused across plants.
+ * The same random seed produces the same catalog content (ids differ per run).
+ */
+public record CatalogGenerationRequest(
+    int groups,
+    int plants,
+    int images,
+    int imageWidth,
+    int imageHeight,
+    Long randomSeed
+) {
+}
@@ -0,0 +1,13 @@
+package com.plants.backend.dto;
+
+/**
+ * DTO for an image referenced from another resource, with the metadata
+ * clients need to reserve layout space before loading it.
+ * Width and height are null for formats whose header could not be read.
+ */
+public record ImageReferenceDto(
+    String id,
+    Integer width,
+    Integer height,
+    Long byteSize
+) {}
@@ -6,6 +6,9 @@ public record ImageResponse(
         String id,
         String filename,
         String contentType,
-        LocalDateTime createdDate
+        LocalDateTime createdDate,
+        Integer width,
+        Integer height,
+        Long byteSize
 ) {
 }
@@ -0,0 +1,16 @@
+package com.plants.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a facet search: the number of matching plants, a page of their ids, and for
+ * every facet the number of matching plants per value. Counts for a facet ignore that
+ * facet's own filter, so they tell how many plants selecting another value would add.
+ */
+public record PlantFacetSearchResponse(
+    long total,
+    List<String> plantIds,
+    Map<String, Map<String, Long>> facets
+) {
+}
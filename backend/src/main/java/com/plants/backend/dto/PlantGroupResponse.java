@@ -2,9 +2,13 @@ package com.plants.backend.dto;
 
 /**
  * Response DTO for plant group information.
+ * Image placeholder and color let clients paint before the cover image loads.
  */
 public record PlantGroupResponse(
     String id,
     String name,
-    String imageId
+    String imageId,
+    String imagePlaceholder,
+    String imageColor,
+    int plantCount
 ) {}
\ No newline at end of file
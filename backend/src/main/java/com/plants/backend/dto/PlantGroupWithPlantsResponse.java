@@ -0,0 +1,18 @@
+package com.plants.backend.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for a plant group page: the group together with summaries
+ * of its plants, ordered by name. An empty list means the group has no plants;
+ * plantCount is the total, which may exceed the list when it is limited.
+ */
+public record PlantGroupWithPlantsResponse(
+    String id,
+    String name,
+    String imageId,
+    String imagePlaceholder,
+    String imageColor,
+    int plantCount,
+    List<PlantSummaryResponse> plants
+) {}
@@ -12,6 +12,8 @@ public record PlantResponse(
     String scientificName,
     String thumbnailId,
     String[] imageIds,
+    ImageReferenceDto thumbnail,
+    List<ImageReferenceDto> images,
     String description,
     String size,
     String toxicity,
@@ -0,0 +1,11 @@
+package com.plants.backend.dto;
+
+/**
+ * A plant whose common or scientific name starts with the typed prefix.
+ */
+public record PlantSuggestionResponse(
+    String id,
+    String name,
+    String scientificName
+) {
+}
@@ -3,10 +3,13 @@ package com.plants.backend.dto;
 /**
  * Lightweight response DTO for plant list views.
  * Contains only essential information without detailed care instructions.
+ * Thumbnail placeholder and color let clients paint before the image loads.
  */
 public record PlantSummaryResponse(
     String id,
     String name,
     String scientificName,
-    String thumbnailId
+    String thumbnailId,
+    String thumbnailPlaceholder,
+    String thumbnailColor
 ) {}
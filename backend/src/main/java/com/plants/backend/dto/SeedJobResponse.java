@@ -0,0 +1,29 @@
+package com.plants.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.plants.backend.service.SeedJob;
+import com.plants.backend.service.SeedProgress;
+
+import java.time.Instant;
+
+/**
+ * Status of a background seed or reset job.
+ * Items are groups and plants; itemsTotal is 0 until the seed pack has been counted.
+ * Throughput is items committed per second since the job started.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SeedJobResponse(
+        String id,
+        SeedJob.Type type,
+        SeedJob.Status status,
+        SeedProgress.Phase phase,
+        long itemsDone,
+        long itemsTotal,
+        long elapsedMillis,
+        double itemsPerSecond,
+        boolean cancelRequested,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+}
@@ -3,6 +3,7 @@ package com.plants.backend.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -10,9 +11,11 @@ import lombok.Setter;
 /**
  * Embeddable component containing plant care instructions.
  * Maps to care_* columns in the plants table.
+ * Compared by value, so re-applying identical care instructions does not dirty the plant.
  */
 @Embeddable
 @Getter
+@EqualsAndHashCode
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.plants.backend.entity;
 
 import jakarta.persistence.Basic;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -10,11 +11,16 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "images")
+@Cacheable
+// Only metadata is cached; the lazy bytes column is always read from the database
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "image", includeLazy = false)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,4 +43,39 @@ public class Image {
 
     @Column(name = "created_date", nullable = false)
     private LocalDateTime createdDate;
+
+    /**
+     * Tiny inline JPEG as a data URI, painted while the full image loads.
+     * Null when the image format could not be decoded.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String placeholder;
+
+    @Column(name = "dominant_color", length = 7)
+    private String dominantColor;
+
+    /**
+     * Size in bytes as uploaded, before any optimization.
+     */
+    @Column(name = "original_size")
+    private Long originalSize;
+
+    /**
+     * Size in bytes after upload-time optimization; null when the original bytes were kept.
+     */
+    @Column(name = "optimized_size")
+    private Long optimizedSize;
+
+    /**
+     * Length of the stored bytes; lets listings report sizes without reading the bytea column.
+     */
+    @Column(name = "byte_size")
+    private Long byteSize;
+
+    /**
+     * Display width in pixels (EXIF rotation applied); null for formats ImageIO cannot read.
+     */
+    private Integer width;
+
+    private Integer height;
 }
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity representing a common plant issue and its solution.
@@ -12,6 +14,8 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "plant_issues")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "issue")
 @Getter
 @Setter
 @NoArgsConstructor
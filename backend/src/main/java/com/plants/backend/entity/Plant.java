@@ -6,6 +6,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.Array;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -14,10 +17,14 @@ import java.util.List;
 
 /**
  * Entity representing an individual plant species with care information.
- * Maps to the plants table.
+ * Maps to the plants table. Updates only write the columns that changed,
+ * so a small edit does not resend the long text columns.
  */
 @Entity
 @Table(name = "plants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "plant")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -56,9 +63,11 @@ public class Plant {
     @Embedded
     private CareGuide care;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "plant.common-issues")
     @OneToMany(mappedBy = "plant", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Issue> commonIssues = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "plant.images")
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "plant_images",
@@ -5,12 +5,18 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a plant group/category.
  */
 @Entity
 @Table(name = "plant_groups")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "plant-group")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,4 +36,8 @@ public class PlantGroup {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "image_id", insertable = false, updatable = false)
     private Image image;
+
+    // Changed only by atomic increments and reconciliation, never written from the entity state
+    @Column(name = "plant_count", nullable = false, insertable = false, updatable = false)
+    private int plantCount;
 }
\ No newline at end of file
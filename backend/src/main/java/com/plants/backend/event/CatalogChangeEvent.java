@@ -0,0 +1,44 @@
+package com.plants.backend.event;
+
+/**
+ * Published by the service write methods whenever catalog data changes.
+ * Delivered to listeners only once the surrounding transaction has committed.
+ * Remote events describe a change made by another replica and are republished
+ * locally by the invalidation bus.
+ */
+public record CatalogChangeEvent(Entity entity, String id, Type type, boolean remote) {
+
+    public enum Entity {
+        PLANT, GROUP, IMAGE, CATALOG
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, RESET
+    }
+
+    public static CatalogChangeEvent created(Entity entity, String id) {
+        return new CatalogChangeEvent(entity, id, Type.CREATED, false);
+    }
+
+    public static CatalogChangeEvent updated(Entity entity, String id) {
+        return new CatalogChangeEvent(entity, id, Type.UPDATED, false);
+    }
+
+    public static CatalogChangeEvent deleted(Entity entity, String id) {
+        return new CatalogChangeEvent(entity, id, Type.DELETED, false);
+    }
+
+    /**
+     * The whole catalog was replaced (seed/reset); clients should drop everything they hold.
+     */
+    public static CatalogChangeEvent reset() {
+        return new CatalogChangeEvent(Entity.CATALOG, null, Type.RESET, false);
+    }
+
+    /**
+     * The same change, marked as having happened on another replica.
+     */
+    public CatalogChangeEvent asRemote() {
+        return new CatalogChangeEvent(entity, id, type, true);
+    }
+}
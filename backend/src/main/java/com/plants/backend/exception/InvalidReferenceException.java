@@ -0,0 +1,24 @@
+package com.plants.backend.exception;
+
+import com.plants.backend.dto.ValidationError;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Thrown when a request references groups or images that do not exist.
+ * Carries one error per missing reference.
+ */
+@Getter
+public class InvalidReferenceException extends IllegalArgumentException {
+
+    private final List<ValidationError> errors;
+
+    public InvalidReferenceException(List<ValidationError> errors) {
+        super(errors.stream()
+                .map(ValidationError::message)
+                .collect(Collectors.joining("; ", "Invalid references: ", "")));
+        this.errors = List.copyOf(errors);
+    }
+}
@@ -0,0 +1,8 @@
+package com.plants.backend.exception;
+
+public class SeedJobConflictException extends RuntimeException {
+
+    public SeedJobConflictException(String message) {
+        super(message);
+    }
+}
@@ -14,12 +14,18 @@ import org.mapstruct.MappingTarget;
 @Mapper(componentModel = "spring")
 public interface PlantGroupMapper {
 
+    @Mapping(target = "imagePlaceholder", source = "image.placeholder")
+    @Mapping(target = "imageColor", source = "image.dominantColor")
     PlantGroupResponse toResponse(PlantGroup plantGroup);
 
     @Mapping(target = "image", ignore = true)
+    @Mapping(target = "plantCount", ignore = true)
     PlantGroup toEntity(CreatePlantGroupRequest request);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "image", ignore = true)
+    @Mapping(target = "plantCount", ignore = true)
     void updateEntityFromRequest(UpdatePlantGroupRequest request, @MappingTarget PlantGroup plantGroup);
+
+    UpdatePlantGroupRequest toUpdateRequest(PlantGroup plantGroup);
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.plants.backend.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.plants.backend.dto.PlantResponse;
+import com.plants.backend.dto.PlantSummaryResponse;
+import com.plants.backend.entity.CareGuide;
+import com.plants.backend.entity.Image;
+import com.plants.backend.entity.Issue;
+import com.plants.backend.entity.Plant;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the public plant endpoints, which write straight to the
+ * generator instead of building response DTOs for Jackson to reflect over.
+ * <p>
+ * The output must stay identical to serializing the DTOs: a {@link Plant} is written as
+ * {@link PlantResponse} (as produced by {@link PlantMapper#toResponse}) and the summary
+ * row field by field. Fields added to those records have to be added here as well.
+ */
+@JsonComponent
+public class PlantJsonComponent {
+
+    /**
+     * Writes a plant as a {@link PlantResponse}. Everything it reads (thumbnail, images,
+     * issues) must already be initialized, since serialization runs outside the transaction.
+     */
+    public static class PlantSerializer extends JsonSerializer<Plant> {
+
+        @Override
+        public void serialize(Plant plant, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("id", plant.getId());
+            gen.writeStringField("groupId", plant.getGroupId());
+            gen.writeStringField("name", plant.getName());
+            gen.writeStringField("scientificName", plant.getScientificName());
+            gen.writeStringField("thumbnailId", plant.getThumbnailId());
+
+            List<Image> images = plant.getImages();
+            gen.writeArrayFieldStart("imageIds");
+            if (images != null) {
+                for (Image image : images) {
+                    gen.writeString(image.getId());
+                }
+            }
+            gen.writeEndArray();
+
+            gen.writeFieldName("thumbnail");
+            writeImageReference(plant.getThumbnail(), gen);
+            gen.writeFieldName("images");
+            if (images == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray();
+                for (Image image : images) {
+                    writeImageReference(image, gen);
+                }
+                gen.writeEndArray();
+            }
+
+            gen.writeStringField("description", plant.getDescription());
+            gen.writeStringField("size", plant.getSize());
+            gen.writeStringField("toxicity", plant.getToxicity());
+            gen.writeFieldName("benefits");
+            writeStrings(plant.getBenefits(), gen);
+            gen.writeFieldName("care");
+            writeCare(plant.getCare(), gen);
+            gen.writeFieldName("commonIssues");
+            writeIssues(plant.getCommonIssues(), gen);
+            gen.writeEndObject();
+        }
+
+        private void writeImageReference(Image image, JsonGenerator gen) throws IOException {
+            if (image == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject();
+            gen.writeStringField("id", image.getId());
+            writeNumberField("width", image.getWidth(), gen);
+            writeNumberField("height", image.getHeight(), gen);
+            gen.writeFieldName("byteSize");
+            if (image.getByteSize() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(image.getByteSize());
+            }
+            gen.writeEndObject();
+        }
+
+        private void writeCare(CareGuide care, JsonGenerator gen) throws IOException {
+            if (care == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject();
+            gen.writeStringField("watering", care.getWatering());
+            gen.writeStringField("light", care.getLight());
+            gen.writeStringField("temperature", care.getTemperature());
+            gen.writeStringField("humidity", care.getHumidity());
+            gen.writeStringField("soil", care.getSoil());
+            gen.writeStringField("fertilizing", care.getFertilizing());
+            gen.writeEndObject();
+        }
+
+        private void writeIssues(List<Issue> issues, JsonGenerator gen) throws IOException {
+            if (issues == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartArray();
+            for (Issue issue : issues) {
+                gen.writeStartObject();
+                gen.writeStringField("issue", issue.getIssue());
+                gen.writeStringField("solution", issue.getSolution());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+
+        private void writeStrings(String[] values, JsonGenerator gen) throws IOException {
+            if (values == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartArray();
+            for (String value : values) {
+                gen.writeString(value);
+            }
+            gen.writeEndArray();
+        }
+
+        private void writeNumberField(String name, Integer value, JsonGenerator gen) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+    }
+
+    /**
+     * Writes a summary row of the plant list endpoints without going through its bean serializer.
+     */
+    public static class PlantSummarySerializer extends JsonSerializer<PlantSummaryResponse> {
+
+        @Override
+        public void serialize(PlantSummaryResponse summary, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("id", summary.id());
+            gen.writeStringField("name", summary.name());
+            gen.writeStringField("scientificName", summary.scientificName());
+            gen.writeStringField("thumbnailId", summary.thumbnailId());
+            gen.writeStringField("thumbnailPlaceholder", summary.thumbnailPlaceholder());
+            gen.writeStringField("thumbnailColor", summary.thumbnailColor());
+            gen.writeEndObject();
+        }
+    }
+}
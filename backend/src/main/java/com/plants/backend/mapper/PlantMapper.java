@@ -20,6 +20,8 @@ public interface PlantMapper {
      * Convert Plant entity to PlantResponse DTO.
      */
     @Mapping(target = "imageIds", source = "images")
+    @Mapping(target = "thumbnail", source = "thumbnail")
+    @Mapping(target = "images", source = "images")
     @Mapping(target = "care", source = "care")
     @Mapping(target = "commonIssues", source = "commonIssues")
     PlantResponse toResponse(Plant plant);
@@ -27,6 +29,8 @@ public interface PlantMapper {
     /**
      * Convert Plant entity to PlantSummaryResponse DTO.
      */
+    @Mapping(target = "thumbnailPlaceholder", source = "thumbnail.placeholder")
+    @Mapping(target = "thumbnailColor", source = "thumbnail.dominantColor")
     PlantSummaryResponse toSummaryResponse(Plant plant);
 
     /**
@@ -64,6 +68,16 @@ public interface PlantMapper {
      */
     List<Issue> toIssues(List<IssueDto> dtos);
 
+    /**
+     * Convert Image entity to an ImageReferenceDto (metadata only, never the bytes).
+     */
+    ImageReferenceDto toImageReference(Image image);
+
+    /**
+     * Convert list of Image entities to list of ImageReferenceDtos.
+     */
+    List<ImageReferenceDto> toImageReferences(List<Image> images);
+
     /**
      * Convert list of Image entities to array of image IDs.
      */
@@ -95,4 +109,11 @@ public interface PlantMapper {
     @Mapping(target = "group", ignore = true)
     @Mapping(target = "thumbnail", ignore = true)
     void updateEntityFromRequest(UpdatePlantRequest request, @MappingTarget Plant plant);
+
+    /**
+     * Convert Plant entity to the UpdatePlantRequest that would leave it unchanged.
+     * Used as the base document for merge patches.
+     */
+    @Mapping(target = "imageIds", source = "images")
+    UpdatePlantRequest toUpdateRequest(Plant plant);
 }
@@ -1,9 +1,46 @@
 package com.plants.backend.repository;
 
+import com.plants.backend.dto.ImageResponse;
 import com.plants.backend.entity.Image;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, String> {
+
+    /**
+     * Existence check through the second-level cache; the inherited
+     * implementation always issues a count query.
+     */
+    @Override
+    default boolean existsById(String id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Find image metadata as responses without selecting the bytes column.
+     * Filename matches as a case-insensitive substring, content type exactly; null skips a filter.
+     * The filename must have {@code \}, {@code %} and {@code _} escaped with a backslash.
+     */
+    @Query(value = """
+            select new com.plants.backend.dto.ImageResponse(
+                i.id, i.filename, i.contentType, i.createdDate, i.width, i.height, i.byteSize)
+            from Image i
+            where (:filename is null or lower(i.filename) like lower(concat('%', :filename, '%')) escape '\\')
+              and (:contentType is null or i.contentType = :contentType)
+            """,
+            countQuery = """
+            select count(i)
+            from Image i
+            where (:filename is null or lower(i.filename) like lower(concat('%', :filename, '%')) escape '\\')
+              and (:contentType is null or i.contentType = :contentType)
+            """)
+    Page<ImageResponse> findResponses(
+            @Param("filename") String filename,
+            @Param("contentType") String contentType,
+            Pageable pageable);
 }
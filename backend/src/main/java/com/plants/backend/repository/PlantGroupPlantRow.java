@@ -0,0 +1,32 @@
+package com.plants.backend.repository;
+
+/**
+ * One row of a group left-joined with its plants. A group without plants
+ * yields a single row whose plant columns are all null.
+ */
+public interface PlantGroupPlantRow {
+
+    String getGroupId();
+
+    String getGroupName();
+
+    String getGroupImageId();
+
+    String getGroupImagePlaceholder();
+
+    String getGroupImageColor();
+
+    int getGroupPlantCount();
+
+    String getPlantId();
+
+    String getPlantName();
+
+    String getPlantScientificName();
+
+    String getThumbnailId();
+
+    String getThumbnailPlaceholder();
+
+    String getThumbnailColor();
+}
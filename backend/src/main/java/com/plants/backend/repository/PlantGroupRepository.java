@@ -1,12 +1,104 @@
 package com.plants.backend.repository;
 
+import com.plants.backend.dto.PlantGroupResponse;
 import com.plants.backend.entity.PlantGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository for PlantGroup entities.
  */
 @Repository
 public interface PlantGroupRepository extends JpaRepository<PlantGroup, String> {
-}
\ No newline at end of file
+
+    /**
+     * Existence check through the second-level cache; the inherited
+     * implementation always issues a count query.
+     */
+    @Override
+    default boolean existsById(String id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Find all groups as responses, joining in the cover image placeholder
+     * without loading image entities.
+     */
+    @Query("""
+            select new com.plants.backend.dto.PlantGroupResponse(
+                g.id, g.name, g.imageId, i.placeholder, i.dominantColor, g.plantCount)
+            from PlantGroup g left join g.image i
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<PlantGroupResponse> findAllResponses();
+
+    /**
+     * Find a single group as a response, joining in the cover image placeholder.
+     */
+    @Query("""
+            select new com.plants.backend.dto.PlantGroupResponse(
+                g.id, g.name, g.imageId, i.placeholder, i.dominantColor, g.plantCount)
+            from PlantGroup g left join g.image i
+            where g.id = :id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<PlantGroupResponse> findResponseById(@Param("id") String id);
+
+    /**
+     * Atomically add delta to a group's plant count. Runs as a bulk update, so concurrent
+     * plant changes cannot lose increments; Hibernate evicts cached groups afterwards.
+     */
+    @Modifying
+    @Query("update PlantGroup g set g.plantCount = g.plantCount + :delta where g.id = :id")
+    void adjustPlantCount(@Param("id") String id, @Param("delta") int delta);
+
+    /**
+     * Find a group together with its plant summaries in one statement.
+     * No rows means the group does not exist.
+     */
+    @Query("""
+            select g.id as groupId, g.name as groupName, g.imageId as groupImageId,
+                gi.placeholder as groupImagePlaceholder, gi.dominantColor as groupImageColor,
+                g.plantCount as groupPlantCount, p.id as plantId, p.name as plantName, p.scientificName as plantScientificName,
+                p.thumbnailId as thumbnailId, t.placeholder as thumbnailPlaceholder, t.dominantColor as thumbnailColor
+            from PlantGroup g left join g.image gi
+                left join Plant p on p.groupId = g.id
+                left join p.thumbnail t
+            where g.id = :id
+            order by p.name, p.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<PlantGroupPlantRow> findWithPlantsById(@Param("id") String id);
+
+    /**
+     * Find all groups, each with the summaries of its first plants by name, in one statement.
+     * The lateral subquery reads at most plantLimit plants per group from the (group_id, name) index.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT g.id AS "groupId", g.name AS "groupName", g.image_id AS "groupImageId",
+                gi.placeholder AS "groupImagePlaceholder", gi.dominant_color AS "groupImageColor",
+                g.plant_count AS "groupPlantCount", p.id AS "plantId", p.name AS "plantName", p.scientific_name AS "plantScientificName",
+                p.thumbnail_id AS "thumbnailId", t.placeholder AS "thumbnailPlaceholder", t.dominant_color AS "thumbnailColor"
+            FROM plant_groups g
+            LEFT JOIN images gi ON gi.id = g.image_id
+            LEFT JOIN LATERAL (
+                SELECT id, name, scientific_name, thumbnail_id
+                FROM plants
+                WHERE group_id = g.id
+                ORDER BY name, id
+                LIMIT :plantLimit
+            ) p ON true
+            LEFT JOIN images t ON t.id = p.thumbnail_id
+            ORDER BY g.name, g.id, p.name, p.id
+            """)
+    List<PlantGroupPlantRow> findAllWithFirstPlants(@Param("plantLimit") int plantLimit);
+}
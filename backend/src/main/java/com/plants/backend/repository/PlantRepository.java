@@ -1,7 +1,13 @@
 package com.plants.backend.repository;
 
+import com.plants.backend.dto.PlantSummaryResponse;
 import com.plants.backend.entity.Plant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,8 +18,41 @@ import java.util.List;
 @Repository
 public interface PlantRepository extends JpaRepository<Plant, String> {
 
+    /**
+     * Existence check through the second-level cache; the inherited
+     * implementation always issues a count query.
+     */
+    @Override
+    default boolean existsById(String id) {
+        return findById(id).isPresent();
+    }
+
     /**
      * Find all plants belonging to a specific plant group.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Plant> findByGroupId(String groupId);
+
+    /**
+     * Find all plants as summaries, joining in the thumbnail placeholder
+     * without loading image entities.
+     */
+    @Query("""
+            select new com.plants.backend.dto.PlantSummaryResponse(
+                p.id, p.name, p.scientificName, p.thumbnailId, t.placeholder, t.dominantColor)
+            from Plant p left join p.thumbnail t
+            """)
+    List<PlantSummaryResponse> findAllSummaries();
+
+    /**
+     * Find summaries of all plants belonging to a specific plant group.
+     */
+    @Query("""
+            select new com.plants.backend.dto.PlantSummaryResponse(
+                p.id, p.name, p.scientificName, p.thumbnailId, t.placeholder, t.dominantColor)
+            from Plant p left join p.thumbnail t
+            where p.groupId = :groupId
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<PlantSummaryResponse> findSummariesByGroupId(@Param("groupId") String groupId);
 }
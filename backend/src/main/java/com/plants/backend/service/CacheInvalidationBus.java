@@ -0,0 +1,290 @@
+package com.plants.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plants.backend.config.InvalidationProperties;
+import com.plants.backend.entity.Image;
+import com.plants.backend.entity.Issue;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.event.CatalogChangeEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the second-level caches and change feeds of all backend replicas consistent.
+ * <p>
+ * Every local change is numbered for the {@link ChangeFeed} and sent with pg_notify inside
+ * the writing transaction, so Postgres delivers it only if the transaction commits and every
+ * replica records it under the same version. Each replica listens on a pooled connection
+ * held for as long as it listens, evicts the affected cache entries for changes made
+ * elsewhere, records them in its change feed and republishes them as remote events.
+ * The session is cleaned up before the connection goes back to the pool.
+ * <p>
+ * Notifications sent while the listener was disconnected are lost, so after a
+ * reconnect all caches are flushed and a reset event is published.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    static final String APPLICATION_NAME = "plants-cache-invalidation";
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final InvalidationProperties properties;
+    private final CascadeCacheEviction cascadeCacheEviction;
+    private final ChangeFeed changeFeed;
+    private final String origin = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    // version is null in notifications from replicas that predate versioned changes
+    record Notification(String origin, CatalogChangeEvent.Entity entity, String id, CatalogChangeEvent.Type type,
+                        Long version) {
+    }
+
+    public CacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            EntityManagerFactory entityManagerFactory,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            InvalidationProperties properties,
+            CascadeCacheEviction cascadeCacheEviction,
+            ChangeFeed changeFeed
+    ) {
+        if (!CHANNEL_NAME.matcher(properties.channel()).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + properties.channel());
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.cascadeCacheEviction = cascadeCacheEviction;
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * Number a local change and send it to the other replicas. Runs on the writing transaction's
+     * connection, so a rolled-back write never produces a notification; the change is recorded
+     * in the local change feed once the transaction has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void publish(CatalogChangeEvent event) {
+        if (event.remote()) {
+            return;
+        }
+
+        long version = changeFeed.nextVersion();
+        if (properties.enabled()) {
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(
+                        new Notification(origin, event.entity(), event.id(), event.type(), version));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize change notification", e);
+            }
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> {
+            }, properties.channel(), payload);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changeFeed.record(event, version);
+                }
+            });
+        } else {
+            changeFeed.record(event, version);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            Connection connection = null;
+            boolean failed = false;
+            try {
+                connection = dataSource.getConnection();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                    // Makes the listening session easy to spot in pg_stat_activity
+                    statement.execute("SET application_name = '" + APPLICATION_NAME + "'");
+                }
+                if (connectedBefore) {
+                    flushAll();
+                } else {
+                    // Changes committed elsewhere before now were not heard
+                    changeFeed.markMissedUpTo(changeFeed.currentVersion());
+                }
+                connectedBefore = true;
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) properties.pollTimeout().toMillis());
+                    if (notifications == null || notifications.length == 0) {
+                        // Quiet period: make sure the connection is still alive
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // Connection lost or not available yet: retry, then flush on reconnect
+                failed = true;
+            } finally {
+                release(connection);
+            }
+            if (failed) {
+                pause();
+            }
+        }
+    }
+
+    /**
+     * Return the pooled connection as a plain session: no longer listening, without queued
+     * notifications and with its default application name. A connection that cannot be
+     * cleaned up is evicted from the pool (or aborted) instead of being handed out again.
+     */
+    private void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("UNLISTEN *");
+                statement.execute("RESET application_name");
+            }
+            connection.unwrap(PGConnection.class).getNotifications();
+            connection.close();
+        } catch (SQLException | RuntimeException e) {
+            discard(connection);
+        }
+    }
+
+    private void discard(Connection connection) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+            } else {
+                connection.abort(Runnable::run);
+                connection.close();
+            }
+        } catch (SQLException | RuntimeException e) {
+            // Already gone
+        }
+    }
+
+    private void handle(String payload) {
+        Notification notification;
+        try {
+            notification = objectMapper.readValue(payload, Notification.class);
+        } catch (JsonProcessingException e) {
+            // Unknown message: cannot tell what changed, so assume everything did
+            flushAll();
+            return;
+        }
+        if (origin.equals(notification.origin())) {
+            return;
+        }
+
+        evict(notification);
+        CatalogChangeEvent event = new CatalogChangeEvent(
+                notification.entity(), notification.id(), notification.type(), true);
+        changeFeed.record(event, notification.version() != null ? notification.version() : changeFeed.nextVersion());
+        eventPublisher.publishEvent(event);
+    }
+
+    private void evict(Notification notification) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        String id = notification.id();
+        switch (notification.entity()) {
+            case PLANT -> {
+                cache.evictEntityData(Plant.class, id);
+                cache.evictCollectionData(Plant.class.getName() + ".commonIssues", id);
+                cache.evictCollectionData(Plant.class.getName() + ".images", id);
+                // Issue ids are not part of the notification
+                cache.evictEntityData(Issue.class);
+                // Group plant counts change with plant creation, moves and deletion
+                cache.evictEntityData(PlantGroup.class);
+            }
+            case GROUP -> cache.evictEntityData(PlantGroup.class, id);
+            case IMAGE -> cache.evictEntityData(Image.class, id);
+            case CATALOG -> cache.evictAllRegions();
+        }
+        if (notification.type() == CatalogChangeEvent.Type.DELETED) {
+            // Rows the database deleted by cascade, e.g. the plants of a deleted group
+            cascadeCacheEviction.evict(notification.entity());
+        }
+        // Cached query results may contain the changed row
+        cache.evictQueryRegions();
+    }
+
+    private void flushAll() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        CatalogChangeEvent reset = CatalogChangeEvent.reset().asRemote();
+        changeFeed.record(reset, changeFeed.nextVersion());
+        eventPublisher.publishEvent(reset);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.reconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.plants.backend.service;
+
+import com.plants.backend.entity.Issue;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.event.CatalogChangeEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached rows that PostgreSQL removes by ON DELETE CASCADE, which Hibernate never
+ * sees: deleting a group deletes its plants with their issues and image links, and deleting
+ * an image deletes the plant_images rows pointing at it. The affected ids are unknown
+ * without extra queries, so whole regions are evicted; both deletes are rare admin actions.
+ * <p>
+ * Local deletes are evicted after commit, so a concurrent load cannot cache the rows again
+ * before they are gone; deletes on other replicas are evicted by CacheInvalidationBus.
+ */
+@Component
+@RequiredArgsConstructor
+public class CascadeCacheEviction {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(CatalogChangeEvent event) {
+        if (!event.remote() && event.type() == CatalogChangeEvent.Type.DELETED) {
+            evict(event.entity());
+        }
+    }
+
+    /**
+     * Evict what deleting an entity of this kind cascades to.
+     */
+    public void evict(CatalogChangeEvent.Entity entity) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        switch (entity) {
+            case GROUP -> {
+                cache.evictEntityData(Plant.class);
+                cache.evictCollectionData(Plant.class.getName() + ".commonIssues");
+                cache.evictCollectionData(Plant.class.getName() + ".images");
+                cache.evictEntityData(Issue.class);
+            }
+            case IMAGE -> cache.evictCollectionData(Plant.class.getName() + ".images");
+            case PLANT, CATALOG -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package com.plants.backend.service;
+
+import com.plants.backend.dto.CatalogGenerationRequest;
+import com.plants.backend.entity.Image;
+import com.plants.backend.event.CatalogChangeEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.postgresql.PGConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes a synthetic catalog of arbitrary size for benchmarks and query plan checks.
+ * Rows go straight into the tables with PostgreSQL COPY, a chunk per transaction, bypassing
+ * JPA entirely; the second-level cache is evicted and clients are told to reload afterwards.
+ * Only the image pool is held in memory (as ids), so 100k+ plants need no more than a small catalog.
+ * Generated rows are added to the existing catalog under ids that are unique per run.
+ */
+@Service
+public class CatalogGenerator {
+
+    private static final int ROWS_PER_COPY = 5_000;
+    private static final int IMAGE_CHARS_PER_COPY = 8 * 1024 * 1024;
+    private static final int MAX_GROUPS = 10_000;
+    private static final int MAX_PLANTS = 1_000_000;
+    private static final int MAX_IMAGES = 100_000;
+    private static final int MAX_IMAGE_SIDE = 4_000;
+
+    private static final String IMAGES_COPY = "COPY images (id, filename, content_type, bytes, placeholder, "
+            + "dominant_color, original_size, optimized_size, byte_size, width, height) FROM STDIN WITH (FORMAT csv)";
+    private static final String GROUPS_COPY = "COPY plant_groups (id, name, image_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String PLANTS_COPY = "COPY plants (id, group_id, name, scientific_name, thumbnail_id, "
+            + "description, size, toxicity, benefits, care_watering, care_light, care_temperature, care_humidity, "
+            + "care_soil, care_fertilizing) FROM STDIN WITH (FORMAT csv)";
+    private static final String PLANT_IMAGES_COPY =
+            "COPY plant_images (plant_id, image_id, display_order) FROM STDIN WITH (FORMAT csv)";
+    private static final String ISSUES_COPY = "COPY plant_issues (plant_id, issue, solution) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String[] GROUP_WORDS = {
+            "Tropical", "Desert", "Alpine", "Woodland", "Coastal", "Meadow", "Rainforest", "Mediterranean",
+            "Trailing", "Flowering", "Foliage", "Climbing", "Miniature", "Aquatic", "Carnivorous", "Fragrant"
+    };
+    private static final String[] GROUP_NOUNS = {
+            "Plants", "Ferns", "Succulents", "Palms", "Herbs", "Orchids", "Vines", "Cacti", "Grasses", "Shrubs"
+    };
+    private static final String[] GENERA = {
+            "Monstera", "Philodendron", "Calathea", "Ficus", "Aloe", "Echeveria", "Haworthia", "Peperomia",
+            "Begonia", "Dracaena", "Anthurium", "Hoya", "Pilea", "Sansevieria", "Tillandsia", "Nephrolepis",
+            "Crassula", "Alocasia", "Maranta", "Spathiphyllum", "Oxalis", "Senecio", "Ctenanthe", "Aglaonema"
+    };
+    private static final String[] EPITHETS = {
+            "deliciosa", "elegans", "variegata", "minor", "major", "lyrata", "repens", "compacta", "aurea",
+            "argentea", "rubra", "pendula", "grandiflora", "tenuifolia", "obtusa", "cordata", "ovata", "nana"
+    };
+    private static final String[] COMMON_PREFIXES = {
+            "Silver", "Golden", "Velvet", "Dwarf", "Giant", "Painted", "Striped", "Spotted", "Royal", "Crested"
+    };
+    private static final String[] COMMON_NOUNS = {
+            "Leaf", "Fern", "Lily", "Palm", "Ivy", "Rose", "Star", "Bell", "Fan", "Plume", "Spear", "Heart"
+    };
+    private static final String[] SENTENCES = {
+            "This plant is prized for its striking foliage and forgiving nature.",
+            "It thrives in bright, indirect light and tolerates occasional neglect.",
+            "Native to the understory of tropical forests, it prefers steady warmth and humidity.",
+            "New leaves unfurl slowly and often show a deeper color than mature growth.",
+            "It grows compact indoors, making it a good fit for shelves and desks.",
+            "Given room to climb, it will develop larger and more dramatic leaves over time.",
+            "The thick stems store water, so it copes well with missed waterings.",
+            "Regular rotation keeps growth even, as it leans readily towards the light.",
+            "Propagation from stem or leaf cuttings is straightforward in spring and summer.",
+            "Flowers are small and rarely appear indoors, but the foliage more than makes up for it.",
+            "It is often grown as a hanging plant, trailing well over the edge of the pot.",
+            "Dust the leaves occasionally to keep them glossy and able to photosynthesize efficiently."
+    };
+    private static final String[] BENEFITS = {
+            "Air purifying", "Low maintenance", "Pet friendly", "Fast growing", "Drought tolerant",
+            "Thrives in low light", "Compact size", "Long lived", "Easy to propagate"
+    };
+    private static final String[] ISSUES = {
+            "Yellowing leaves", "Brown leaf tips", "Drooping stems", "Root rot", "Spider mites",
+            "Leggy growth", "Leaf drop", "Fungus gnats"
+    };
+    private static final String[] SOLUTIONS = {
+            "Let the soil dry out further between waterings.",
+            "Increase humidity and avoid cold drafts.",
+            "Move to a brighter spot out of direct afternoon sun.",
+            "Repot into fresh, well-draining soil and trim affected roots.",
+            "Wipe leaves and treat with insecticidal soap weekly until clear."
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageProcessor imageProcessor;
+    private final PlantCountReconciler plantCountReconciler;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ImageProcessor imageProcessor,
+            PlantCountReconciler plantCountReconciler,
+            EntityManagerFactory entityManagerFactory,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageProcessor = imageProcessor;
+        this.plantCountReconciler = plantCountReconciler;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Generate a catalog, reporting groups and plants as items.
+     *
+     * @throws IllegalArgumentException if a size is out of range
+     * @throws java.util.concurrent.CancellationException if cancelled through the progress
+     */
+    public void generate(CatalogGenerationRequest request, SeedProgress progress) {
+        validate(request);
+        Random random = new Random(request.randomSeed() != null ? request.randomSeed() : System.nanoTime());
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        progress.setItemsTotal((long) request.groups() + request.plants());
+
+        try {
+            progress.startPhase(SeedProgress.Phase.IMAGES);
+            List<String> imageIds = writeImages(request, random, progress);
+
+            progress.startPhase(SeedProgress.Phase.GROUPS);
+            List<String> groupIds = writeGroups(request.groups(), runId, imageIds, random, progress);
+
+            progress.startPhase(SeedProgress.Phase.PLANTS);
+            writePlants(request.plants(), runId, groupIds, imageIds, random, progress);
+        } catch (RuntimeException e) {
+            // Chunks committed so far stay; make them visible even though the run failed or was cancelled
+            try {
+                announceReset();
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+
+        progress.startPhase(SeedProgress.Phase.FINISHING);
+        announceReset();
+        progress.startPhase(SeedProgress.Phase.DONE);
+    }
+
+    /**
+     * COPY bypasses Hibernate, so set the group plant counts, drop everything cached and tell
+     * clients to reload. The cache is dropped after commit, before the reset reaches clients,
+     * so nothing loaded before the commit stays cached.
+     */
+    private void announceReset() {
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evictAll();
+                }
+            });
+            plantCountReconciler.reconcile();
+            eventPublisher.publishEvent(CatalogChangeEvent.reset());
+        });
+    }
+
+    /**
+     * @throws IllegalArgumentException if a size is out of range
+     */
+    public void validate(CatalogGenerationRequest request) {
+        checkRange("groups", request.groups(), 1, MAX_GROUPS);
+        checkRange("plants", request.plants(), 0, MAX_PLANTS);
+        checkRange("images", request.images(), 3, MAX_IMAGES);
+        checkRange("imageWidth", request.imageWidth(), 1, MAX_IMAGE_SIDE);
+        checkRange("imageHeight", request.imageHeight(), 1, MAX_IMAGE_SIDE);
+    }
+
+    private void checkRange(String name, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+        }
+    }
+
+    /**
+     * Render the shared image pool. Each image goes through the regular upload processing,
+     * so placeholders, colors and dimensions look like those of real uploads. Image bytes are
+     * hex-encoded into the CSV, so chunks are bounded by their length rather than a row count:
+     * a chunk is copied once it reaches the bound, or after a single image that exceeds it.
+     */
+    private List<String> writeImages(CatalogGenerationRequest request, Random random, SeedProgress progress) {
+        List<String> imageIds = new ArrayList<>(request.images());
+        CsvRows rows = new CsvRows();
+        for (int i = 0; i < request.images(); i++) {
+            Image image = renderImage(i, request.imageWidth(), request.imageHeight(), random);
+            imageIds.add(image.getId());
+            rows.add(image.getId(), image.getFilename(), image.getContentType(), image.getBytes(),
+                    image.getPlaceholder(), image.getDominantColor(), image.getOriginalSize(),
+                    image.getOptimizedSize(), image.getByteSize(), image.getWidth(), image.getHeight());
+            if (rows.length() >= IMAGE_CHARS_PER_COPY) {
+                copyChunk(progress, 0, new Copy(IMAGES_COPY, rows));
+                rows = new CsvRows();
+            }
+        }
+        if (rows.size() > 0) {
+            copyChunk(progress, 0, new Copy(IMAGES_COPY, rows));
+        }
+        return imageIds;
+    }
+
+    private List<String> writeGroups(int count, String runId, List<String> imageIds, Random random,
+                                     SeedProgress progress) {
+        List<String> groupIds = new ArrayList<>(count);
+        CsvRows rows = new CsvRows();
+        for (int i = 0; i < count; i++) {
+            String id = "gen-" + runId + "-group-" + i;
+            groupIds.add(id);
+            String name = pick(GROUP_WORDS, random) + " " + pick(GROUP_NOUNS, random) + " " + (i + 1);
+            rows.add(id, name, popularImage(imageIds, random));
+            if (rows.size() == ROWS_PER_COPY) {
+                copyChunk(progress, rows.size(), new Copy(GROUPS_COPY, rows));
+                rows = new CsvRows();
+            }
+        }
+        if (rows.size() > 0) {
+            copyChunk(progress, rows.size(), new Copy(GROUPS_COPY, rows));
+        }
+        return groupIds;
+    }
+
+    /**
+     * Write plants with their image links and issues; each chunk of plants commits together
+     * with its dependent rows.
+     */
+    private void writePlants(int count, String runId, List<String> groupIds, List<String> imageIds,
+                             Random random, SeedProgress progress) {
+        for (int from = 0; from < count; from += ROWS_PER_COPY) {
+            int to = Math.min(from + ROWS_PER_COPY, count);
+            CsvRows plants = new CsvRows();
+            CsvRows plantImages = new CsvRows();
+            CsvRows issues = new CsvRows();
+
+            for (int i = from; i < to; i++) {
+                String id = "gen-" + runId + "-plant-" + i;
+                String genus = pick(GENERA, random);
+                plants.add(id,
+                        groupIds.get(random.nextInt(groupIds.size())),
+                        pick(COMMON_PREFIXES, random) + " " + pick(COMMON_NOUNS, random) + " " + (i + 1),
+                        genus + " " + pick(EPITHETS, random),
+                        popularImage(imageIds, random),
+                        description(random),
+                        "Grows to " + (10 + random.nextInt(190)) + " cm indoors.",
+                        random.nextInt(3) == 0 ? "Toxic to pets if ingested." : "Non-toxic to people and pets.",
+                        textArray(sample(BENEFITS, random.nextInt(5), random)),
+                        "Water when the top " + (2 + random.nextInt(5)) + " cm of soil are dry.",
+                        random.nextBoolean() ? "Bright, indirect light." : "Medium to low light.",
+                        (15 + random.nextInt(5)) + "-" + (24 + random.nextInt(6)) + "°C.",
+                        random.nextBoolean() ? "Average household humidity." : "High humidity preferred.",
+                        random.nextBoolean() ? "Well-draining potting mix." : "Chunky aroid mix.",
+                        "Feed monthly in spring and summer.");
+
+                // 1-3 distinct detail images, skewed towards the popular part of the pool
+                Set<String> images = new LinkedHashSet<>();
+                int imageCount = 1 + random.nextInt(3);
+                while (images.size() < imageCount) {
+                    images.add(popularImage(imageIds, random));
+                }
+                int order = 0;
+                for (String imageId : images) {
+                    plantImages.add(id, imageId, order++);
+                }
+
+                for (String issue : sample(ISSUES, random.nextInt(4), random)) {
+                    issues.add(id, issue, pick(SOLUTIONS, random));
+                }
+            }
+
+            copyChunk(progress, to - from,
+                    new Copy(PLANTS_COPY, plants),
+                    new Copy(PLANT_IMAGES_COPY, plantImages),
+                    new Copy(ISSUES_COPY, issues));
+        }
+    }
+
+    private record Copy(String sql, CsvRows rows) {
+    }
+
+    /**
+     * Run the COPY statements of one chunk in a single transaction, then count its items.
+     */
+    private void copyChunk(SeedProgress progress, int items, Copy... copies) {
+        progress.checkCancelled();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            for (Copy copy : copies) {
+                if (copy.rows().size() > 0) {
+                    try {
+                        connection.unwrap(PGConnection.class).getCopyAPI()
+                                .copyIn(copy.sql(), new StringReader(copy.rows().toString()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+            return null;
+        }));
+        progress.advance(items);
+    }
+
+    private Image renderImage(int index, int width, int height, Random random) {
+        BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = canvas.createGraphics();
+        try {
+            Color from = Color.getHSBColor(0.2f + random.nextFloat() * 0.25f, 0.4f + random.nextFloat() * 0.5f,
+                    0.3f + random.nextFloat() * 0.5f);
+            g.setPaint(new GradientPaint(0, 0, from, width, height, from.brighter().brighter()));
+            g.fillRect(0, 0, width, height);
+            // A few leaf-like blobs so that encoded sizes resemble photos rather than flat fills
+            for (int i = 0; i < 12; i++) {
+                g.setColor(from.darker());
+                int size = 1 + random.nextInt(Math.max(1, Math.min(width, height) / 2));
+                g.fillOval(random.nextInt(width), random.nextInt(height), size, size / 2 + 1);
+            }
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(canvas, "jpeg", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Image image = new Image();
+        image.setId(UUID.randomUUID().toString());
+        image.setFilename("generated-" + index + ".jpg");
+        image.setContentType("image/jpeg");
+        image.setBytes(out.toByteArray());
+        image.setCreatedDate(LocalDateTime.now());
+        imageProcessor.process(image);
+        return image;
+    }
+
+    /**
+     * Descriptions from one to a dozen sentences, mostly short, as in real catalogs.
+     */
+    private String description(Random random) {
+        int sentences = 1 + (int) Math.min(SENTENCES.length - 1, Math.abs(random.nextGaussian()) * 4);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(pick(SENTENCES, random));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Pick from the pool with a strong skew towards its start, so a few images are shared widely.
+     */
+    private String popularImage(List<String> imageIds, Random random) {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return imageIds.get((int) (skewed * imageIds.size()));
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<String> sample(String[] values, int count, Random random) {
+        Set<String> sample = new LinkedHashSet<>();
+        while (sample.size() < Math.min(count, values.length)) {
+            sample.add(pick(values, random));
+        }
+        return new ArrayList<>(sample);
+    }
+
+    /**
+     * PostgreSQL array literal for a TEXT[] column.
+     */
+    private static String textArray(List<String> values) {
+        StringBuilder array = new StringBuilder("{");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                array.append(',');
+            }
+            array.append('"').append(values.get(i).replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        return array.append('}').toString();
+    }
+
+    /**
+     * Rows in COPY's CSV format: nulls are empty, text is quoted, bytea is hex.
+     */
+    private static final class CsvRows {
+
+        private final StringBuilder csv = new StringBuilder();
+        private int size;
+
+        void add(Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                Object value = values[i];
+                if (value instanceof byte[] bytes) {
+                    csv.append("\\x").append(HexFormat.of().formatHex(bytes));
+                } else if (value instanceof String text) {
+                    csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    csv.append(value);
+                }
+            }
+            csv.append('\n');
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int length() {
+            return csv.length();
+        }
+
+        @Override
+        public String toString() {
+            return csv.toString();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.plants.backend.service;
+
+import com.plants.backend.dto.CatalogGenerationRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line entry point of the catalog generator, used by the generateCatalog Gradle task.
+ * When started with {@code --generate-catalog}, generates the catalog described by the
+ * {@code plants.generate.*} properties; the application's main method then exits
+ * instead of serving requests.
+ */
+@Slf4j
+@Component
+public class CatalogGeneratorRunner implements ApplicationRunner {
+
+    public static final String OPTION = "generate-catalog";
+
+    private final CatalogGenerator catalogGenerator;
+    private final Environment environment;
+
+    public CatalogGeneratorRunner(CatalogGenerator catalogGenerator, Environment environment) {
+        this.catalogGenerator = catalogGenerator;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        CatalogGenerationRequest request = Binder.get(environment)
+                .bind("plants.generate", CatalogGenerationRequest.class)
+                .orElseThrow(() -> new IllegalArgumentException("plants.generate.* properties are required"));
+        SeedProgress progress = new SeedProgress();
+        catalogGenerator.generate(request, progress);
+
+        log.info("Generated {} groups and plants in {} ms ({} per second)",
+                progress.getItemsDone(), progress.getElapsed().toMillis(), Math.round(progress.getItemsPerSecond()));
+    }
+}
@@ -0,0 +1,225 @@
+package com.plants.backend.service;
+
+import com.plants.backend.config.ChangeFeedProperties;
+import com.plants.backend.dto.CatalogChangeResponse;
+import com.plants.backend.event.CatalogChangeEvent;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory feed of committed catalog changes, streamed to clients as Server-Sent Events.
+ * The most recent changes are kept in a buffer so reconnecting clients can resume
+ * from their Last-Event-ID; when that is no longer possible they get a reset event instead.
+ * <p>
+ * Event ids are change versions from the catalog_change_version sequence. A change is numbered
+ * in its writing transaction and its version travels with the change notification (see
+ * {@link CacheInvalidationBus}), so every replica uses the same ids and a client can resume on
+ * any of them. Resuming replays the buffered changes numbered after the client's position;
+ * concurrent commits can be recorded out of version order and are sent in the recorded order.
+ * <p>
+ * Live changes are sent to each client by its own virtual thread, so the committing request
+ * thread only queues them and a slow client delays nobody else. A client that falls more
+ * than a buffer's worth of changes behind is disconnected and resumes on reconnect.
+ */
+@Component
+public class ChangeFeed {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+    static final String READY_EVENT = "ready";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // Guarded by this. Changes in the order they were recorded; those numbered up to floor
+    // may be missing, later ones are all here once committed
+    private final Deque<CatalogChangeResponse> buffer = new ArrayDeque<>();
+    private long floor;
+    private long lastVersion;
+
+    public ChangeFeed(ChangeFeedProperties properties, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bufferSize = properties.bufferSize();
+        this.emitterTimeoutMillis = properties.emitterTimeout().toMillis();
+        this.floor = currentVersion();
+        this.lastVersion = floor;
+    }
+
+    /**
+     * Take the version of a new change. Called in the writing transaction, before commit.
+     */
+    public long nextVersion() {
+        return jdbcTemplate.queryForObject("SELECT nextval('catalog_change_version')", Long.class);
+    }
+
+    /**
+     * Highest version taken so far by any replica.
+     */
+    public long currentVersion() {
+        return jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM catalog_change_version", Long.class);
+    }
+
+    /**
+     * Record a committed change and queue it for all connected clients. Queuing under the
+     * lock keeps every client's changes in recorded order.
+     */
+    public synchronized void record(CatalogChangeEvent event, long version) {
+        CatalogChangeResponse change = new CatalogChangeResponse(version, event.entity(), event.id(), event.type());
+        buffer.addLast(change);
+        if (buffer.size() > bufferSize) {
+            floor = Math.max(floor, buffer.removeFirst().version());
+        }
+        lastVersion = Math.max(lastVersion, version);
+
+        subscribers.forEach(subscriber -> subscriber.deliver(change));
+    }
+
+    /**
+     * Changes numbered up to the given version may not have been recorded, e.g. because they
+     * were committed elsewhere before this replica listened. Clients resuming from an earlier
+     * position get a reset event.
+     */
+    public synchronized void markMissedUpTo(long version) {
+        floor = Math.max(floor, version);
+        lastVersion = Math.max(lastVersion, version);
+    }
+
+    /**
+     * Open a stream. Changes after lastEventId are replayed first; an unknown or
+     * evicted id produces a reset event, telling the client to refetch everything.
+     * The replay is buffered by the emitter until the response starts, so it does not
+     * block on the client.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Long resumeFrom = parseVersion(lastEventId);
+        // A position ahead of this replica may have been seen on another one already;
+        // a position ahead of the sequence is from a previous database
+        boolean known = resumeFrom != null && (resumeFrom <= lastVersion() || resumeFrom <= currentVersion());
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+
+        synchronized (this) {
+            if (replay(emitter, lastEventId, known ? resumeFrom : null)) {
+                subscribers.add(subscriber);
+            } else {
+                subscriber.close();
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Highest version recorded, for tests and diagnostics.
+     */
+    public synchronized long lastVersion() {
+        return lastVersion;
+    }
+
+    private boolean replay(SseEmitter emitter, String lastEventId, Long resumeFrom) {
+        if (lastEventId == null) {
+            // Fresh client: nothing to replay, but hand out the current position
+            return send(emitter, SseEmitter.event().id(eventId(lastVersion)).name(READY_EVENT).data(Map.of()));
+        }
+        if (resumeFrom == null || resumeFrom < floor) {
+            return send(emitter, SseEmitter.event().id(eventId(lastVersion)).name(RESET_EVENT).data(Map.of()));
+        }
+        for (CatalogChangeResponse change : buffer) {
+            if (change.version() > resumeFrom && !send(emitter, toEvent(change))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Long parseVersion(String eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String eventId(long version) {
+        return String.valueOf(version);
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(CatalogChangeResponse change) {
+        String name = change.type() == CatalogChangeEvent.Type.RESET ? RESET_EVENT : CHANGE_EVENT;
+        return SseEmitter.event()
+                .id(eventId(change.version()))
+                .name(name)
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * A connected client with its own sender thread, which sends queued changes in order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ExecutorService sender =
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("change-feed-sender").factory());
+        private final AtomicInteger pending = new AtomicInteger();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void deliver(CatalogChangeResponse change) {
+            if (pending.incrementAndGet() > bufferSize) {
+                // Too far behind: reconnecting resumes from the buffer or resets
+                close();
+                emitter.complete();
+                return;
+            }
+            try {
+                sender.execute(() -> {
+                    pending.decrementAndGet();
+                    if (!send(emitter, toEvent(change))) {
+                        close();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Closed concurrently
+            }
+        }
+
+        void close() {
+            subscribers.remove(this);
+            sender.shutdown();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter is dropped and the client resumes on reconnect
+            return false;
+        }
+    }
+}
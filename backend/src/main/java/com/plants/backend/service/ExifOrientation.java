@@ -0,0 +1,149 @@
+package com.plants.backend.service;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Reads the EXIF orientation tag from JPEG bytes and applies it to decoded pixels,
+ * so images display upright once their metadata has been stripped.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * Read the orientation (1-8) from the EXIF APP1 segment, or {@link #NORMAL} when absent.
+     */
+    static int read(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+            return NORMAL;
+        }
+
+        int pos = 2;
+        while (pos + 4 <= jpeg.length) {
+            if ((jpeg[pos] & 0xFF) != 0xFF) {
+                return NORMAL;
+            }
+            int marker = jpeg[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                // Fill byte before the actual marker
+                pos++;
+                continue;
+            }
+            if (marker == 0xD8 || marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                // Standalone markers carry no length
+                pos += 2;
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                // Start of scan / end of image: no metadata beyond this point
+                return NORMAL;
+            }
+
+            int segmentLength = readShort(jpeg, pos + 2, false);
+            int segmentEnd = Math.min(jpeg.length, pos + 2 + segmentLength);
+            if (marker == 0xE1 && isExifHeader(jpeg, pos + 4)) {
+                return readTiffOrientation(jpeg, pos + 10, segmentEnd);
+            }
+            pos = pos + 2 + segmentLength;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Whether the orientation involves a 90° turn, i.e. displayed width and height are swapped.
+     */
+    static boolean swapsAxes(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * Return a copy of the image rotated/flipped according to the orientation.
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swapsAxes = swapsAxes(orientation);
+        BufferedImage oriented = new BufferedImage(
+                swapsAxes ? height : width,
+                swapsAxes ? width : height,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB
+        );
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                switch (orientation) {
+                    case 2 -> oriented.setRGB(width - 1 - x, y, rgb);
+                    case 3 -> oriented.setRGB(width - 1 - x, height - 1 - y, rgb);
+                    case 4 -> oriented.setRGB(x, height - 1 - y, rgb);
+                    case 5 -> oriented.setRGB(y, x, rgb);
+                    case 6 -> oriented.setRGB(height - 1 - y, x, rgb);
+                    case 7 -> oriented.setRGB(height - 1 - y, width - 1 - x, rgb);
+                    default -> oriented.setRGB(y, width - 1 - x, rgb);
+                }
+            }
+        }
+        return oriented;
+    }
+
+    private static boolean isExifHeader(byte[] bytes, int pos) {
+        return pos + 6 <= bytes.length
+                && bytes[pos] == 'E' && bytes[pos + 1] == 'x' && bytes[pos + 2] == 'i' && bytes[pos + 3] == 'f'
+                && bytes[pos + 4] == 0 && bytes[pos + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] bytes, int tiffStart, int end) {
+        if (tiffStart + 8 > end) {
+            return NORMAL;
+        }
+
+        boolean littleEndian;
+        if (bytes[tiffStart] == 'I' && bytes[tiffStart + 1] == 'I') {
+            littleEndian = true;
+        } else if (bytes[tiffStart] == 'M' && bytes[tiffStart + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return NORMAL;
+        }
+
+        long ifdOffset = readInt(bytes, tiffStart + 4, littleEndian);
+        if (ifdOffset < 8 || tiffStart + ifdOffset + 2 > end) {
+            return NORMAL;
+        }
+        int ifd = (int) (tiffStart + ifdOffset);
+        int entries = readShort(bytes, ifd, littleEndian);
+
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(bytes, entry, littleEndian) == ORIENTATION_TAG) {
+                int orientation = readShort(bytes, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int readShort(byte[] bytes, int pos, boolean littleEndian) {
+        int b0 = bytes[pos] & 0xFF;
+        int b1 = bytes[pos + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] bytes, int pos, boolean littleEndian) {
+        long high = readShort(bytes, littleEndian ? pos + 2 : pos, littleEndian);
+        long low = readShort(bytes, littleEndian ? pos : pos + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,145 @@
+package com.plants.backend.service;
+
+import com.plants.backend.entity.Image;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills in dimensions and byte size for images stored before those columns existed.
+ * Works in small batches and reads only the length and a header-sized prefix of each
+ * image, so the bytea corpus is never loaded into memory as a whole.
+ * Rows are updated with plain JDBC, so cached image entities are evicted afterwards.
+ * <p>
+ * At startup the backfill runs in the background, so it does not delay readiness, and under
+ * a PostgreSQL advisory lock, so only one of several starting instances does the work.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageMetadataBackfill {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int HEADER_BYTES = 64 * 1024;
+    private static final String LOCK_NAME = "plants.image-metadata-backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageProcessor imageProcessor;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private record ImageHead(String id, String contentType, long byteSize, byte[] head) {
+    }
+
+    private record ImageMetadata(String id, long byteSize, ImageProcessor.Dimensions dimensions) {
+    }
+
+    /**
+     * Start the backfill in the background, unless another instance is already running it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        Thread.ofPlatform().name("image-metadata-backfill").daemon().start(() -> {
+            try {
+                run(false);
+            } catch (RuntimeException e) {
+                log.warn("Image metadata backfill failed; it is retried on the next start", e);
+            }
+        });
+    }
+
+    /**
+     * Backfill all images with a missing byte size, waiting for a backfill running elsewhere
+     * to finish first. Every processed row gets a byte size, so rows whose format cannot be
+     * read are not revisited.
+     *
+     * @return number of images updated
+     */
+    public int backfill() {
+        return run(true);
+    }
+
+    /**
+     * Hold the advisory lock on one connection for the whole run; session-level locks belong
+     * to the connection that took them, so all batches use that connection too.
+     */
+    private int run(boolean wait) {
+        Integer updated = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (wait) {
+                locked.query("SELECT pg_advisory_lock(hashtext(?))", rs -> null, LOCK_NAME);
+            } else if (!Boolean.TRUE.equals(locked.queryForObject(
+                    "SELECT pg_try_advisory_lock(hashtext(?))", Boolean.class, LOCK_NAME))) {
+                return 0;
+            }
+            try {
+                return backfillBatches(locked);
+            } finally {
+                locked.queryForObject("SELECT pg_advisory_unlock(hashtext(?))", Boolean.class, LOCK_NAME);
+            }
+        });
+
+        if (updated != null && updated > 0) {
+            entityManagerFactory.getCache().evict(Image.class);
+        }
+        return updated != null ? updated : 0;
+    }
+
+    private int backfillBatches(JdbcTemplate jdbcTemplate) {
+        int updated = 0;
+        List<ImageHead> batch;
+        do {
+            batch = jdbcTemplate.query("""
+                            SELECT id, content_type, octet_length(bytes) AS byte_size,
+                                   substring(bytes FROM 1 FOR ?) AS head
+                            FROM images
+                            WHERE byte_size IS NULL
+                            LIMIT ?
+                            """,
+                    (rs, rowNum) -> new ImageHead(
+                            rs.getString("id"),
+                            rs.getString("content_type"),
+                            rs.getLong("byte_size"),
+                            rs.getBytes("head")
+                    ),
+                    HEADER_BYTES, BATCH_SIZE);
+
+            List<ImageMetadata> metadata = new ArrayList<>(batch.size());
+            for (ImageHead image : batch) {
+                metadata.add(new ImageMetadata(image.id(), image.byteSize(), readDimensions(jdbcTemplate, image)));
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "UPDATE images SET byte_size = ?, width = ?, height = ? WHERE id = ?",
+                    metadata,
+                    BATCH_SIZE,
+                    (ps, item) -> {
+                        ps.setLong(1, item.byteSize());
+                        ps.setObject(2, item.dimensions() != null ? item.dimensions().width() : null, Types.INTEGER);
+                        ps.setObject(3, item.dimensions() != null ? item.dimensions().height() : null, Types.INTEGER);
+                        ps.setString(4, item.id());
+                    });
+            updated += metadata.size();
+        } while (batch.size() == BATCH_SIZE);
+        return updated;
+    }
+
+    private ImageProcessor.Dimensions readDimensions(JdbcTemplate jdbcTemplate, ImageHead image) {
+        ImageProcessor.Dimensions dimensions = imageProcessor.readDimensions(image.head(), image.contentType());
+        if (dimensions == null && image.byteSize() > image.head().length) {
+            // Header not within the prefix (e.g. a very large EXIF block): read the whole image once
+            byte[] bytes = jdbcTemplate.queryForObject("SELECT bytes FROM images WHERE id = ?", byte[].class, image.id());
+            dimensions = imageProcessor.readDimensions(bytes, image.contentType());
+        }
+        return dimensions;
+    }
+}
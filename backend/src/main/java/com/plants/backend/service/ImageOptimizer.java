@@ -0,0 +1,80 @@
+package com.plants.backend.service;
+
+import com.plants.backend.config.ImageOptimizationProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Re-encodes decoded images without their metadata: JPEGs as progressive at the
+ * configured quality, PNGs losslessly at maximum deflate compression.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageOptimizer {
+
+    private final ImageOptimizationProperties properties;
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Re-encode an already decoded (and upright) image in its original format.
+     * Returns empty for formats that are not re-encoded.
+     */
+    public Optional<byte[]> reencode(BufferedImage image, String contentType) {
+        if (isJpeg(contentType)) {
+            return Optional.of(write(image, "jpeg", param -> {
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(properties.jpegQuality());
+            }));
+        }
+        if (isPng(contentType)) {
+            return Optional.of(write(image, "png", param -> {
+                // For PNG the "quality" maps to the deflate level: 0.0 is maximum compression
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(0.0f);
+            }));
+        }
+        return Optional.empty();
+    }
+
+    static boolean isJpeg(String contentType) {
+        return "image/jpeg".equalsIgnoreCase(contentType)
+                || "image/jpg".equalsIgnoreCase(contentType)
+                || "image/pjpeg".equalsIgnoreCase(contentType);
+    }
+
+    static boolean isPng(String contentType) {
+        return "image/png".equalsIgnoreCase(contentType);
+    }
+
+    private byte[] write(BufferedImage image, String format, Consumer<ImageWriteParam> configurer) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            configurer.accept(param);
+            writer.setOutput(ios);
+            // No metadata is passed, so EXIF, thumbnails and ancillary chunks are dropped
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to re-encode image as " + format, e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
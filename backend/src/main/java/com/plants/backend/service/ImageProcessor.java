@@ -0,0 +1,216 @@
+package com.plants.backend.service;
+
+import com.plants.backend.entity.Image;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Iterator;
+
+/**
+ * Derives display metadata from image bytes once, at upload/seed time, and
+ * optionally replaces the bytes with an optimized encoding.
+ * Images that ImageIO cannot decode (e.g. WebP) are stored as-is without derived metadata.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageProcessor {
+
+    private static final int PLACEHOLDER_SIZE = 32;
+    private static final float PLACEHOLDER_QUALITY = 0.5f;
+    // Larger images are stored and described, but never decoded into memory
+    private static final long MAX_DECODE_PIXELS = 50_000_000L;
+
+    private final ImageOptimizer imageOptimizer;
+
+    /**
+     * Display dimensions of an image, with EXIF rotation already accounted for.
+     */
+    public record Dimensions(int width, int height) {
+
+        long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * Optimize the image bytes (when enabled) and populate derived metadata
+     * (sizes, dimensions, placeholder, dominant color).
+     */
+    public void process(Image image) {
+        byte[] original = image.getBytes();
+        image.setOriginalSize((long) original.length);
+
+        Dimensions dimensions = readDimensions(original, image.getContentType());
+        BufferedImage decoded = dimensions != null && dimensions.pixels() <= MAX_DECODE_PIXELS
+                ? decode(original)
+                : null;
+
+        if (decoded != null) {
+            if (ImageOptimizer.isJpeg(image.getContentType())) {
+                decoded = ExifOrientation.apply(decoded, ExifOrientation.read(original));
+            }
+            if (imageOptimizer.isEnabled()) {
+                optimize(image, decoded);
+            }
+
+            BufferedImage placeholder = scaleDown(decoded, PLACEHOLDER_SIZE);
+            image.setPlaceholder(toJpegDataUri(placeholder));
+            image.setDominantColor(averageColor(placeholder));
+        }
+
+        // Describe the bytes actually stored, which may be the optimized encoding
+        byte[] stored = image.getBytes();
+        Dimensions storedDimensions = stored == original
+                ? dimensions
+                : readDimensions(stored, image.getContentType());
+        image.setByteSize((long) stored.length);
+        image.setWidth(storedDimensions != null ? storedDimensions.width() : null);
+        image.setHeight(storedDimensions != null ? storedDimensions.height() : null);
+    }
+
+    /**
+     * Read display dimensions from the image header only, without decoding pixels.
+     * Works on a truncated prefix of the file as long as it contains the header.
+     * Returns null when no ImageIO reader understands the bytes.
+     */
+    public Dimensions readDimensions(byte[] bytes, String contentType) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (ImageOptimizer.isJpeg(contentType) && ExifOrientation.swapsAxes(ExifOrientation.read(bytes))) {
+                    return new Dimensions(height, width);
+                }
+                return new Dimensions(width, height);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Replace the bytes with the re-encoded image, but only when that actually saves space.
+     * A kept original still carries its EXIF orientation, which browsers honour.
+     */
+    private void optimize(Image image, BufferedImage decoded) {
+        byte[] original = image.getBytes();
+        imageOptimizer.reencode(decoded, image.getContentType())
+                .filter(optimized -> optimized.length < original.length)
+                .ifPresent(optimized -> {
+                    image.setBytes(optimized);
+                    image.setOptimizedSize((long) optimized.length);
+                });
+    }
+
+    private BufferedImage decode(byte[] bytes) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException | RuntimeException e) {
+            // Corrupt or unsupported image: store it as-is, without derived metadata
+            return null;
+        }
+    }
+
+    /**
+     * Scale so the longest side is at most maxSize, halving repeatedly to avoid aliasing.
+     * Transparent areas are flattened onto white.
+     */
+    private BufferedImage scaleDown(BufferedImage source, int maxSize) {
+        BufferedImage current = flatten(source);
+        double scale = Math.min(1.0, (double) maxSize / Math.max(current.getWidth(), current.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(current.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(current.getHeight() * scale));
+
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = resize(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private BufferedImage flatten(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.drawImage(source, 0, 0, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private String toJpegDataUri(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(PLACEHOLDER_QUALITY);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode image placeholder", e);
+        } finally {
+            writer.dispose();
+        }
+        return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    private String averageColor(BufferedImage image) {
+        long red = 0;
+        long green = 0;
+        long blue = 0;
+        int pixels = image.getWidth() * image.getHeight();
+
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int rgb = image.getRGB(x, y);
+                red += (rgb >> 16) & 0xFF;
+                green += (rgb >> 8) & 0xFF;
+                blue += rgb & 0xFF;
+            }
+        }
+        return String.format("#%02x%02x%02x", red / pixels, green / pixels, blue / pixels);
+    }
+}
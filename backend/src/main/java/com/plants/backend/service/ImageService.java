@@ -2,10 +2,15 @@ package com.plants.backend.service;
 
 import com.plants.backend.dto.ImageResponse;
 import com.plants.backend.entity.Image;
+import com.plants.backend.event.CatalogChangeEvent;
 import com.plants.backend.exception.ResourceNotFoundException;
 import com.plants.backend.mapper.ImageMapper;
 import com.plants.backend.repository.ImageRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,8 +23,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ImageService {
 
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdDate"), Sort.Order.asc("id"));
+
     private final ImageRepository imageRepository;
     private final ImageMapper imageMapper;
+    private final ImageProcessor imageProcessor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<String, Image> imageLoads;
 
     @Transactional
     public ImageResponse uploadImage(MultipartFile file) {
@@ -32,25 +42,43 @@ public class ImageService {
             image.setContentType(file.getContentType());
             image.setBytes(file.getBytes());
             image.setCreatedDate(LocalDateTime.now());
+            imageProcessor.process(image);
 
             Image savedImage = imageRepository.save(image);
+            eventPublisher.publishEvent(CatalogChangeEvent.created(CatalogChangeEvent.Entity.IMAGE, savedImage.getId()));
             return imageMapper.toResponse(savedImage);
         } catch (IOException e) {
             throw new IllegalArgumentException("Failed to read image file: " + e.getMessage(), e);
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Get an image including its bytes. The bytes attribute is lazy (bytecode enhanced),
+     * so it is loaded here while the session is still open.
+     * Concurrent requests for the same image share one load and the resulting (read-only) entity.
+     */
     public Image getImageById(String id) {
-        return imageRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Image not found with id: " + id));
+        return imageLoads.load(id, () -> {
+            Image image = imageRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Image not found with id: " + id));
+            image.getBytes();
+            return image;
+        });
     }
 
+    /**
+     * Get image metadata, newest first unless the pageable says otherwise.
+     * Filename matches as a case-insensitive substring, content type exactly; blank skips a filter.
+     * Only metadata columns are read, so the cost does not depend on total image bytes.
+     */
     @Transactional(readOnly = true)
-    public java.util.List<ImageResponse> getAllImages() {
-        return imageRepository.findAll().stream()
-                .map(imageMapper::toResponse)
-                .toList();
+    public Page<ImageResponse> getImages(String filename, String contentType, Pageable pageable) {
+        String pattern = blankToNull(filename);
+        if (pattern != null) {
+            // Match the typed text literally, not as LIKE wildcards
+            pattern = pattern.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        }
+        return imageRepository.findResponses(pattern, blankToNull(contentType), pageable);
     }
 
     @Transactional
@@ -58,7 +86,13 @@ public class ImageService {
         if (!imageRepository.existsById(id)) {
             throw new ResourceNotFoundException("Image not found with id: " + id);
         }
+        // The database cascades to plant image links; CascadeCacheEviction drops them from the cache
         imageRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangeEvent.deleted(CatalogChangeEvent.Entity.IMAGE, id));
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 
     private void validateImageFile(MultipartFile file) {
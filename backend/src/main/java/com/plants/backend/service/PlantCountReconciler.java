@@ -0,0 +1,79 @@
+package com.plants.backend.service;
+
+import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.event.CatalogChangeEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Recomputes the denormalized plant counts of all groups with a single grouped query,
+ * correcting drift (e.g. from manual SQL) and filling in counts after bulk loads.
+ * Only groups whose count actually changed are written, evicted from the cache once
+ * committed and announced as updated.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlantCountReconciler {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Reconcile all plant counts.
+     *
+     * @return ids of the groups whose count was corrected
+     */
+    @Scheduled(
+            initialDelayString = "${plants.plant-counts.reconcile-interval:1h}",
+            fixedDelayString = "${plants.plant-counts.reconcile-interval:1h}")
+    @Transactional
+    public List<String> reconcile() {
+        List<String> corrected = jdbcTemplate.queryForList("""
+                UPDATE plant_groups g
+                SET plant_count = counts.plant_count
+                FROM (
+                    SELECT pg.id, count(p.id) AS plant_count
+                    FROM plant_groups pg
+                    LEFT JOIN plants p ON p.group_id = pg.id
+                    GROUP BY pg.id
+                ) counts
+                WHERE g.id = counts.id AND g.plant_count <> counts.plant_count
+                RETURNING g.id
+                """, String.class);
+
+        if (!corrected.isEmpty()) {
+            // Registered before the events, so clients are told only once the cache is clean
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(corrected);
+                }
+            });
+            corrected.forEach(id -> eventPublisher.publishEvent(
+                    CatalogChangeEvent.updated(CatalogChangeEvent.Entity.GROUP, id)));
+        }
+        return corrected;
+    }
+
+    /**
+     * The UPDATE bypasses Hibernate, so neither the entities nor the query results are
+     * invalidated by it. Evicting after commit keeps a concurrent load from caching the
+     * old counts again.
+     */
+    private void evict(List<String> groupIds) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        groupIds.forEach(id -> cache.evictEntityData(PlantGroup.class, id));
+        cache.evictQueryRegions();
+    }
+}
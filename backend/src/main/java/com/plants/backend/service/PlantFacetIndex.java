@@ -0,0 +1,194 @@
+package com.plants.backend.service;
+
+import com.plants.backend.dto.PlantFacetSearchResponse;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory facet index over all plants: every plant gets a dense ordinal, and every facet
+ * value (see {@link PlantFacets}) a compressed bitmap of the ordinals having it. Filtering
+ * and counting are bitmap intersections, so searches never touch the database.
+ * Ordinals of deleted plants are reused, keeping the bitmaps dense.
+ */
+@Component
+public class PlantFacetIndex extends PlantIndex<PlantFacetIndex.IndexedPlant> {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String FACET_COLUMNS = "SELECT id, group_id, size, toxicity, benefits FROM plants";
+
+    private static final RowMapper<IndexedPlant> ROW_MAPPER = (rs, rowNum) -> {
+        Array benefits = rs.getArray("benefits");
+        return new IndexedPlant(rs.getString("id"), PlantFacets.of(
+                rs.getString("group_id"),
+                rs.getString("size"),
+                rs.getString("toxicity"),
+                benefits != null ? (String[]) benefits.getArray() : null));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Guarded by lock
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<IndexedPlant> plants = new ArrayList<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final RoaringBitmap free = new RoaringBitmap();
+    private final Map<String, Map<String, RoaringBitmap>> bitmaps = new LinkedHashMap<>();
+
+    record IndexedPlant(String id, Map<String, List<String>> values) {
+    }
+
+    public PlantFacetIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        PlantFacets.NAMES.forEach(name -> bitmaps.put(name, new TreeMap<>()));
+    }
+
+    @Override
+    protected List<IndexedPlant> loadAll() {
+        return jdbcTemplate.query(FACET_COLUMNS + " ORDER BY id", ROW_MAPPER);
+    }
+
+    @Override
+    protected List<IndexedPlant> load(String id) {
+        return jdbcTemplate.query(FACET_COLUMNS + " WHERE id = ?", ROW_MAPPER, id);
+    }
+
+    @Override
+    protected void rebuildLocked(List<IndexedPlant> rows) {
+        ordinals.clear();
+        plants.clear();
+        live.clear();
+        free.clear();
+        bitmaps.values().forEach(Map::clear);
+        rows.forEach(this::add);
+        bitmaps.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+    }
+
+    @Override
+    protected void replaceLocked(String id, List<IndexedPlant> rows) {
+        removeLocked(id);
+        rows.forEach(this::add);
+    }
+
+    @Override
+    protected List<String> groupMembersLocked(String groupId) {
+        RoaringBitmap members = bitmaps.get(PlantFacets.GROUP).get(groupId);
+        if (members == null) {
+            return List.of();
+        }
+        List<String> ids = new ArrayList<>();
+        for (int ordinal : members.toArray()) {
+            ids.add(plants.get(ordinal).id());
+        }
+        return ids;
+    }
+
+    /**
+     * Plants matching all filters: values of one facet are alternatives, different facets
+     * must all match. Ids are returned in ordinal order, a page at a time.
+     */
+    public PlantFacetSearchResponse search(Map<String, Set<String>> filters, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, RoaringBitmap> selected = new LinkedHashMap<>();
+            filters.forEach((facet, values) -> selected.put(facet, union(bitmaps.get(facet), values)));
+            RoaringBitmap matches = intersect(selected.values());
+
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            bitmaps.forEach((facet, values) -> {
+                RoaringBitmap base = intersect(selected.entrySet().stream()
+                        .filter(entry -> !entry.getKey().equals(facet))
+                        .map(Map.Entry::getValue)
+                        .toList());
+                Map<String, Long> counts = new LinkedHashMap<>();
+                values.forEach((value, bitmap) -> {
+                    long count = RoaringBitmap.andCardinality(bitmap, base);
+                    if (count > 0) {
+                        counts.put(value, count);
+                    }
+                });
+                facets.put(facet, counts);
+            });
+
+            long total = matches.getLongCardinality();
+            List<String> plantIds = new ArrayList<>();
+            for (long rank = offset; rank < total && plantIds.size() < limit; rank++) {
+                plantIds.add(plants.get(matches.select((int) rank)).id());
+            }
+            return new PlantFacetSearchResponse(total, plantIds, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap union(Map<String, RoaringBitmap> values, Set<String> selected) {
+        RoaringBitmap union = new RoaringBitmap();
+        for (String value : selected) {
+            RoaringBitmap bitmap = values.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private RoaringBitmap intersect(Collection<RoaringBitmap> filters) {
+        RoaringBitmap result = live.clone();
+        filters.forEach(result::and);
+        return result;
+    }
+
+    private void add(IndexedPlant plant) {
+        int ordinal;
+        if (free.isEmpty()) {
+            ordinal = plants.size();
+            plants.add(plant);
+        } else {
+            ordinal = free.first();
+            free.remove(ordinal);
+            plants.set(ordinal, plant);
+        }
+        ordinals.put(plant.id(), ordinal);
+        live.add(ordinal);
+        plant.values().forEach((facet, values) -> values.forEach(value ->
+                bitmaps.get(facet).computeIfAbsent(value, key -> new RoaringBitmap()).add(ordinal)));
+    }
+
+    @Override
+    protected void removeLocked(String id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        IndexedPlant plant = plants.set(ordinal, null);
+        live.remove(ordinal);
+        free.add(ordinal);
+        plant.values().forEach((facet, values) -> values.forEach(value -> {
+            Map<String, RoaringBitmap> facetBitmaps = bitmaps.get(facet);
+            RoaringBitmap bitmap = facetBitmaps.get(value);
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                facetBitmaps.remove(value);
+            }
+        }));
+    }
+}
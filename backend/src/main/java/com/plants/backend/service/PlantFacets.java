@@ -0,0 +1,180 @@
+package com.plants.backend.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes the free-text plant columns into a small vocabulary of facet values:
+ * <ul>
+ *     <li>{@code group}: the group id</li>
+ *     <li>{@code toxicity}: pet-safe, toxic or unknown, as stated for pets, cats or dogs</li>
+ *     <li>{@code size}: small (up to 30 cm), medium (up to 90 cm), large or unknown, from the
+ *         largest measurement mentioned</li>
+ *     <li>{@code benefit}: zero or more tags recognised in the benefit texts</li>
+ * </ul>
+ */
+public final class PlantFacets {
+
+    public static final String GROUP = "group";
+    public static final String TOXICITY = "toxicity";
+    public static final String SIZE = "size";
+    public static final String BENEFIT = "benefit";
+    public static final List<String> NAMES = List.of(GROUP, TOXICITY, SIZE, BENEFIT);
+
+    static final String UNKNOWN = "unknown";
+
+    private static final Pattern MEASUREMENT = Pattern.compile(
+            "(\\d+(?:\\.\\d+)?)\\s*(?:(?:-|–|to)\\s*(\\d+(?:\\.\\d+)?))?\\s*(cm|centimet(?:er|re)s?|inch(?:es)?|in\\b|\"|feet|foot|ft\\b|m\\b|met(?:er|re)s?)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern CLAUSE_END = Pattern.compile("[.;!?]");
+    private static final Pattern PETS = Pattern.compile("\\b(?:pets?|cats?|dogs?|animals?)\\b");
+    private static final Pattern NOT_TOXIC = Pattern.compile("\\b(?:non-?|not )(?:toxic|poisonous)");
+    private static final List<String> PET_SAFE = List.of(
+            "pet safe", "pet-safe", "safe for pets", "pet friendly", "pet-friendly");
+
+    // Negated pet-safety phrases, checked first since they contain the positive ones
+    private static final List<String> NOT_PET_SAFE = List.of(
+            "not safe for pets", "unsafe for pets", "not pet safe", "not pet-safe",
+            "not pet friendly", "not pet-friendly");
+
+    // Tag and the phrases that imply it, matched against lower-cased benefit text
+    private static final Map<String, List<String>> BENEFIT_TAGS = new LinkedHashMap<>();
+
+    static {
+        BENEFIT_TAGS.put("air-purifying", List.of("air purif", "air-purif", "removes toxins"));
+        BENEFIT_TAGS.put("low-maintenance", List.of("low maintenance", "low-maintenance", "neglect"));
+        BENEFIT_TAGS.put("drought-tolerant", List.of("drought"));
+        BENEFIT_TAGS.put("low-light", List.of("low light", "low-light"));
+        BENEFIT_TAGS.put("pet-friendly", List.of("pet friendly", "pet-friendly", "safe for pets"));
+        BENEFIT_TAGS.put("easy-propagation", List.of("propagat"));
+        BENEFIT_TAGS.put("compact", List.of("compact", "small spaces", "miniatur"));
+        BENEFIT_TAGS.put("oxygen-at-night", List.of("oxygen at night"));
+        BENEFIT_TAGS.put("medicinal", List.of("medicinal"));
+        BENEFIT_TAGS.put("long-lived", List.of("long-lived", "long lived"));
+        BENEFIT_TAGS.put("fast-growing", List.of("fast growing", "fast-growing"));
+        BENEFIT_TAGS.put("ornamental", List.of("ornamental", "decorative"));
+    }
+
+    private PlantFacets() {
+    }
+
+    /**
+     * Facet values of one plant, keyed by facet name.
+     */
+    public static Map<String, List<String>> of(String groupId, String size, String toxicity, String[] benefits) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        values.put(GROUP, groupId != null ? List.of(groupId) : List.of());
+        values.put(TOXICITY, List.of(toxicity(toxicity)));
+        values.put(SIZE, List.of(size(size)));
+        values.put(BENEFIT, benefits(benefits));
+        return values;
+    }
+
+    /**
+     * Parse {@code name:value} filters, grouping values by facet.
+     *
+     * @throws IllegalArgumentException for a malformed filter or an unknown facet
+     */
+    public static Map<String, Set<String>> parseFilters(List<String> filters) {
+        Map<String, Set<String>> parsed = new LinkedHashMap<>();
+        if (filters == null) {
+            return parsed;
+        }
+        for (String filter : filters) {
+            int separator = filter.indexOf(':');
+            if (separator <= 0 || separator == filter.length() - 1) {
+                throw new IllegalArgumentException("Facet filter must be name:value, got: " + filter);
+            }
+            String name = filter.substring(0, separator);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown facet: " + name + " (expected one of " + NAMES + ")");
+            }
+            parsed.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(filter.substring(separator + 1));
+        }
+        return parsed;
+    }
+
+    /**
+     * Pet safety, decided per sentence or clause that names pets, cats or dogs: toxic if any of
+     * them calls the plant toxic or not safe, pet-safe if one calls it safe or non-toxic.
+     * Anything else, including toxicity statements that name no animal, is unknown.
+     */
+    static String toxicity(String text) {
+        if (text == null) {
+            return UNKNOWN;
+        }
+        boolean safe = false;
+        for (String clause : CLAUSE_END.split(text.toLowerCase(Locale.ROOT))) {
+            if (!PETS.matcher(clause).find()) {
+                continue;
+            }
+            String affirmed = NOT_TOXIC.matcher(clause).replaceAll("");
+            if (notPetSafe(clause) || affirmed.contains("toxic") || affirmed.contains("poison")) {
+                return "toxic";
+            }
+            if (!affirmed.equals(clause) || PET_SAFE.stream().anyMatch(clause::contains)) {
+                safe = true;
+            }
+        }
+        return safe ? "pet-safe" : UNKNOWN;
+    }
+
+    static String size(String text) {
+        if (text == null) {
+            return UNKNOWN;
+        }
+        double largestCm = 0;
+        Matcher matcher = MEASUREMENT.matcher(text);
+        while (matcher.find()) {
+            double value = Double.parseDouble(matcher.group(2) != null ? matcher.group(2) : matcher.group(1));
+            largestCm = Math.max(largestCm, value * centimetersPer(matcher.group(3).toLowerCase(Locale.ROOT)));
+        }
+        if (largestCm == 0) {
+            return UNKNOWN;
+        }
+        return largestCm <= 30 ? "small" : largestCm <= 90 ? "medium" : "large";
+    }
+
+    private static double centimetersPer(String unit) {
+        if (unit.startsWith("c")) {
+            return 1;
+        }
+        if (unit.startsWith("in") || unit.equals("\"")) {
+            return 2.54;
+        }
+        if (unit.startsWith("f")) {
+            return 30.48;
+        }
+        return 100;
+    }
+
+    static List<String> benefits(String[] benefits) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (benefits != null) {
+            for (String benefit : benefits) {
+                String lower = benefit.toLowerCase(Locale.ROOT);
+                BENEFIT_TAGS.forEach((tag, phrases) -> {
+                    if (tag.equals("pet-friendly") && notPetSafe(lower)) {
+                        return;
+                    }
+                    if (phrases.stream().anyMatch(lower::contains)) {
+                        tags.add(tag);
+                    }
+                });
+            }
+        }
+        return new ArrayList<>(tags);
+    }
+
+    private static boolean notPetSafe(String lower) {
+        return NOT_PET_SAFE.stream().anyMatch(lower::contains);
+    }
+}
@@ -1,18 +1,27 @@
 package com.plants.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.plants.backend.dto.CreatePlantGroupRequest;
 import com.plants.backend.dto.PlantGroupResponse;
+import com.plants.backend.dto.PlantGroupWithPlantsResponse;
+import com.plants.backend.dto.PlantSummaryResponse;
 import com.plants.backend.dto.UpdatePlantGroupRequest;
 import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.event.CatalogChangeEvent;
 import com.plants.backend.exception.ResourceNotFoundException;
 import com.plants.backend.mapper.PlantGroupMapper;
 import com.plants.backend.repository.ImageRepository;
+import com.plants.backend.repository.PlantGroupPlantRow;
 import com.plants.backend.repository.PlantGroupRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for managing plant groups.
@@ -22,26 +31,48 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PlantGroupService {
 
+    static final int MAX_PLANTS_PER_GROUP = 50;
+
     private final PlantGroupRepository plantGroupRepository;
     private final ImageRepository imageRepository;
     private final PlantGroupMapper plantGroupMapper;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all plant groups.
      */
     public List<PlantGroupResponse> getAllGroups() {
-        return plantGroupRepository.findAll().stream()
-                .map(plantGroupMapper::toResponse)
-                .toList();
+        return plantGroupRepository.findAllResponses();
     }
 
     /**
      * Get a plant group by ID.
      */
     public PlantGroupResponse getGroupById(String id) {
-        PlantGroup group = plantGroupRepository.findById(id)
+        return plantGroupRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Plant group not found with id: " + id));
-        return plantGroupMapper.toResponse(group);
+    }
+
+    /**
+     * Get a plant group with summaries of all its plants, from a single query.
+     */
+    public PlantGroupWithPlantsResponse getGroupWithPlants(String id) {
+        List<PlantGroupWithPlantsResponse> groups = toGroupsWithPlants(plantGroupRepository.findWithPlantsById(id));
+        if (groups.isEmpty()) {
+            throw new ResourceNotFoundException("Plant group not found with id: " + id);
+        }
+        return groups.getFirst();
+    }
+
+    /**
+     * Get all plant groups, each with summaries of its first plants by name, from a single query.
+     */
+    public List<PlantGroupWithPlantsResponse> getAllGroupsWithPlants(int plantLimit) {
+        if (plantLimit < 1 || plantLimit > MAX_PLANTS_PER_GROUP) {
+            throw new IllegalArgumentException("plantLimit must be between 1 and " + MAX_PLANTS_PER_GROUP);
+        }
+        return toGroupsWithPlants(plantGroupRepository.findAllWithFirstPlants(plantLimit));
     }
 
     /**
@@ -61,7 +92,8 @@ public class PlantGroupService {
 
         PlantGroup group = plantGroupMapper.toEntity(request);
         PlantGroup savedGroup = plantGroupRepository.save(group);
-        return plantGroupMapper.toResponse(savedGroup);
+        eventPublisher.publishEvent(CatalogChangeEvent.created(CatalogChangeEvent.Entity.GROUP, savedGroup.getId()));
+        return toResponse(savedGroup);
     }
 
     /**
@@ -71,7 +103,23 @@ public class PlantGroupService {
     public PlantGroupResponse updateGroup(String id, UpdatePlantGroupRequest request) {
         PlantGroup group = plantGroupRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Plant group not found with id: " + id));
+        return applyUpdate(group, request);
+    }
+
+    /**
+     * Partially update a plant group from a JSON Merge Patch document.
+     * A null imageId in the patch removes the cover image.
+     */
+    @Transactional
+    public PlantGroupResponse patchGroup(String id, JsonNode patch) {
+        PlantGroup group = plantGroupRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Plant group not found with id: " + id));
+        UpdatePlantGroupRequest request = jsonMergePatcher.apply(
+                plantGroupMapper.toUpdateRequest(group), patch, UpdatePlantGroupRequest.class);
+        return applyUpdate(group, request);
+    }
 
+    private PlantGroupResponse applyUpdate(PlantGroup group, UpdatePlantGroupRequest request) {
         // Validate image reference if provided
         if (request.imageId() != null && !request.imageId().isBlank()) {
             validateImageExists(request.imageId());
@@ -79,7 +127,8 @@ public class PlantGroupService {
 
         plantGroupMapper.updateEntityFromRequest(request, group);
         PlantGroup updatedGroup = plantGroupRepository.save(group);
-        return plantGroupMapper.toResponse(updatedGroup);
+        eventPublisher.publishEvent(CatalogChangeEvent.updated(CatalogChangeEvent.Entity.GROUP, updatedGroup.getId()));
+        return toResponse(updatedGroup);
     }
 
     /**
@@ -90,7 +139,37 @@ public class PlantGroupService {
         if (!plantGroupRepository.existsById(id)) {
             throw new ResourceNotFoundException("Plant group not found with id: " + id);
         }
+        // The database cascades to the group's plants; CascadeCacheEviction drops them from the cache
         plantGroupRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangeEvent.deleted(CatalogChangeEvent.Entity.GROUP, id));
+    }
+
+    /**
+     * Re-read a saved group through the response projection so the cover image
+     * placeholder reflects the current image reference (the query flushes pending changes).
+     */
+    private PlantGroupResponse toResponse(PlantGroup group) {
+        return plantGroupRepository.findResponseById(group.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Plant group not found with id: " + group.getId()));
+    }
+
+    /**
+     * Fold group/plant join rows (ordered by group) into one response per group.
+     */
+    private List<PlantGroupWithPlantsResponse> toGroupsWithPlants(List<PlantGroupPlantRow> rows) {
+        Map<String, PlantGroupWithPlantsResponse> groups = new LinkedHashMap<>();
+        for (PlantGroupPlantRow row : rows) {
+            PlantGroupWithPlantsResponse group = groups.computeIfAbsent(row.getGroupId(), groupId ->
+                    new PlantGroupWithPlantsResponse(groupId, row.getGroupName(), row.getGroupImageId(),
+                            row.getGroupImagePlaceholder(), row.getGroupImageColor(), row.getGroupPlantCount(),
+                            new ArrayList<>()));
+            if (row.getPlantId() != null) {
+                group.plants().add(new PlantSummaryResponse(row.getPlantId(), row.getPlantName(),
+                        row.getPlantScientificName(), row.getThumbnailId(),
+                        row.getThumbnailPlaceholder(), row.getThumbnailColor()));
+            }
+        }
+        return List.copyOf(groups.values());
     }
 
     /**
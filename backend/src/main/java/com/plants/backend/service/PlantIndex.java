@@ -0,0 +1,111 @@
+package com.plants.backend.service;
+
+import com.plants.backend.event.CatalogChangeEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Base of the in-memory plant indexes. Built at startup and kept current from committed
+ * catalog changes, including those relayed from other replicas: a changed plant is re-read
+ * by id, a deleted one (or the plants of a deleted group) dropped, and a catalog reset
+ * triggers a full rebuild. Rows are always read before taking the write lock, so lookups
+ * are only blocked while the index itself is updated.
+ *
+ * @param <R> a plant row as read from the database
+ */
+abstract class PlantIndex<R> {
+
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Reload every plant.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<R> rows = loadAll();
+
+        lock.writeLock().lock();
+        try {
+            rebuildLocked(rows);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed change. Changes made outside a transaction are applied immediately.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(CatalogChangeEvent event) {
+        switch (event.entity()) {
+            case PLANT -> {
+                if (event.type() == CatalogChangeEvent.Type.DELETED) {
+                    remove(event.id());
+                } else {
+                    reindex(event.id());
+                }
+            }
+            // Deleting a group cascades to its plants in the database
+            case GROUP -> {
+                if (event.type() == CatalogChangeEvent.Type.DELETED) {
+                    removeGroup(event.id());
+                }
+            }
+            case CATALOG -> rebuild();
+            case IMAGE -> {
+            }
+        }
+    }
+
+    protected abstract List<R> loadAll();
+
+    /**
+     * The rows of one plant; none when it no longer exists.
+     */
+    protected abstract List<R> load(String id);
+
+    protected abstract void rebuildLocked(List<R> rows);
+
+    /**
+     * Replace whatever is indexed for the plant with the given rows.
+     */
+    protected abstract void replaceLocked(String id, List<R> rows);
+
+    protected abstract void removeLocked(String id);
+
+    protected abstract List<String> groupMembersLocked(String groupId);
+
+    private void reindex(String id) {
+        List<R> rows = load(id);
+
+        lock.writeLock().lock();
+        try {
+            replaceLocked(id, rows);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeGroup(String groupId) {
+        lock.writeLock().lock();
+        try {
+            groupMembersLocked(groupId).forEach(this::removeLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
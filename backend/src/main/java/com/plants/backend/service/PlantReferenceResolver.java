@@ -0,0 +1,72 @@
+package com.plants.backend.service;
+
+import com.plants.backend.dto.ValidationError;
+import com.plants.backend.entity.Image;
+import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.exception.InvalidReferenceException;
+import com.plants.backend.repository.ImageRepository;
+import com.plants.backend.repository.PlantGroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the group and image ids referenced by a plant request into managed entities.
+ * All images are loaded with a single query, and every missing id is reported at once.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlantReferenceResolver {
+
+    private final PlantGroupRepository plantGroupRepository;
+    private final ImageRepository imageRepository;
+
+    /**
+     * Managed entities for the references of a plant; images keep the requested order.
+     */
+    public record PlantReferences(PlantGroup group, Image thumbnail, List<Image> images) {
+    }
+
+    /**
+     * Resolve the references or throw an InvalidReferenceException listing every missing id.
+     */
+    public PlantReferences resolve(String groupId, String thumbnailId, String[] imageIds) {
+        Set<String> requestedImageIds = new LinkedHashSet<>(Arrays.asList(imageIds));
+        requestedImageIds.add(thumbnailId);
+
+        // Served from the second-level cache when the group has been read before
+        Optional<PlantGroup> group = plantGroupRepository.findById(groupId);
+        Map<String, Image> imagesById = imageRepository.findAllById(requestedImageIds).stream()
+                .collect(Collectors.toMap(Image::getId, Function.identity()));
+
+        List<ValidationError> errors = new ArrayList<>();
+        if (group.isEmpty()) {
+            errors.add(new ValidationError("groupId", "Plant group not found: " + groupId));
+        }
+        if (!imagesById.containsKey(thumbnailId)) {
+            errors.add(new ValidationError("thumbnailId", "Thumbnail image not found: " + thumbnailId));
+        }
+        for (int i = 0; i < imageIds.length; i++) {
+            if (!imagesById.containsKey(imageIds[i])) {
+                errors.add(new ValidationError("imageIds[" + i + "]", "Image not found: " + imageIds[i]));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidReferenceException(errors);
+        }
+
+        List<Image> images = Arrays.stream(imageIds)
+                .map(imagesById::get)
+                .collect(Collectors.toList());
+        return new PlantReferences(group.get(), imagesById.get(thumbnailId), images);
+    }
+}
@@ -1,22 +1,28 @@
 package com.plants.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.plants.backend.dto.*;
 import com.plants.backend.entity.Image;
 import com.plants.backend.entity.Issue;
 import com.plants.backend.entity.Plant;
+import com.plants.backend.event.CatalogChangeEvent;
 import com.plants.backend.exception.ResourceNotFoundException;
 import com.plants.backend.mapper.PlantMapper;
-import com.plants.backend.repository.ImageRepository;
 import com.plants.backend.repository.IssueRepository;
 import com.plants.backend.repository.PlantGroupRepository;
 import com.plants.backend.repository.PlantRepository;
+import com.plants.backend.service.PlantReferenceResolver.PlantReferences;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -29,18 +35,19 @@ public class PlantService {
 
     private final PlantRepository plantRepository;
     private final PlantGroupRepository plantGroupRepository;
-    private final ImageRepository imageRepository;
     private final IssueRepository issueRepository;
     private final PlantMapper plantMapper;
+    private final PlantReferenceResolver plantReferenceResolver;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<String, Plant> plantLoads;
 
     /**
      * Get all plants as summary responses.
      */
     @Transactional(readOnly = true)
     public List<PlantSummaryResponse> getAllPlants() {
-        return plantRepository.findAll().stream()
-                .map(plantMapper::toSummaryResponse)
-                .collect(Collectors.toList());
+        return plantRepository.findAllSummaries();
     }
 
     /**
@@ -53,19 +60,34 @@ public class PlantService {
             throw new ResourceNotFoundException("Plant group not found: " + groupId);
         }
 
-        return plantRepository.findByGroupId(groupId).stream()
-                .map(plantMapper::toSummaryResponse)
-                .collect(Collectors.toList());
+        return plantRepository.findSummariesByGroupId(groupId);
     }
 
     /**
      * Get complete plant details by ID.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PlantResponse getPlantById(String id) {
-        Plant plant = plantRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Plant not found: " + id));
-        return plantMapper.toResponse(plant);
+        return plantMapper.toResponse(getPlantDetails(id));
+    }
+
+    /**
+     * Get a plant with everything its detail view reads already loaded, so it can be written
+     * straight to the response (see PlantJsonComponent) without building a DTO first.
+     * Concurrent requests for the same plant share one load, which runs in its own transaction
+     * so that waiting requests hold no connection. The returned entity may be shared between
+     * requests and must not be modified.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Plant getPlantDetails(String id) {
+        return plantLoads.load(id, () -> {
+            Plant plant = plantRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Plant not found: " + id));
+            Hibernate.initialize(plant.getThumbnail());
+            Hibernate.initialize(plant.getImages());
+            Hibernate.initialize(plant.getCommonIssues());
+            return plant;
+        });
     }
 
     /**
@@ -77,31 +99,17 @@ public class PlantService {
             throw new IllegalArgumentException("Plant with ID '" + request.id() + "' already exists");
         }
 
-        // Validate group exists
-        if (!plantGroupRepository.existsById(request.groupId())) {
-            throw new IllegalArgumentException("Plant group not found: " + request.groupId());
-        }
-
-        // Validate thumbnail exists
-        if (!imageRepository.existsById(request.thumbnailId())) {
-            throw new IllegalArgumentException("Thumbnail image not found: " + request.thumbnailId());
-        }
-
-        // Validate all image IDs exist
-        for (String imageId : request.imageIds()) {
-            if (!imageRepository.existsById(imageId)) {
-                throw new IllegalArgumentException("Image not found: " + imageId);
-            }
-        }
+        // Validate and load group and images
+        PlantReferences references = plantReferenceResolver.resolve(
+                request.groupId(), request.thumbnailId(), request.imageIds());
 
         // Map request to entity
         Plant plant = plantMapper.toEntity(request);
+        plant.setGroup(references.group());
+        plant.setThumbnail(references.thumbnail());
 
         // Set up images relationship
-        List<Image> images = Arrays.stream(request.imageIds())
-                .map(id -> imageRepository.findById(id).orElseThrow())
-                .collect(Collectors.toList());
-        plant.setImages(images);
+        plant.setImages(references.images());
 
         // Set up issues relationship
         List<Issue> issues = request.commonIssues().stream()
@@ -115,6 +123,8 @@ public class PlantService {
 
         // Save plant
         Plant savedPlant = plantRepository.save(plant);
+        plantGroupRepository.adjustPlantCount(savedPlant.getGroupId(), 1);
+        eventPublisher.publishEvent(CatalogChangeEvent.created(CatalogChangeEvent.Entity.PLANT, savedPlant.getId()));
 
         return plantMapper.toResponse(savedPlant);
     }
@@ -125,56 +135,109 @@ public class PlantService {
     public PlantResponse updatePlant(String id, UpdatePlantRequest request) {
         Plant plant = plantRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Plant not found: " + id));
+        return applyUpdate(plant, request);
+    }
 
-        // Validate group exists
-        if (!plantGroupRepository.existsById(request.groupId())) {
-            throw new IllegalArgumentException("Plant group not found: " + request.groupId());
-        }
+    /**
+     * Partially update a plant from a JSON Merge Patch document.
+     * Only fields present in the patch change; the result is validated like a full update.
+     */
+    public PlantResponse patchPlant(String id, JsonNode patch) {
+        Plant plant = plantRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Plant not found: " + id));
+        UpdatePlantRequest request = jsonMergePatcher.apply(
+                plantMapper.toUpdateRequest(plant), patch, UpdatePlantRequest.class);
+        return applyUpdate(plant, request);
+    }
 
-        // Validate thumbnail exists
-        if (!imageRepository.existsById(request.thumbnailId())) {
-            throw new IllegalArgumentException("Thumbnail image not found: " + request.thumbnailId());
-        }
+    private PlantResponse applyUpdate(Plant plant, UpdatePlantRequest request) {
+        // Validate and load group and images
+        PlantReferences references = plantReferenceResolver.resolve(
+                request.groupId(), request.thumbnailId(), request.imageIds());
 
-        // Validate all image IDs exist
-        for (String imageId : request.imageIds()) {
-            if (!imageRepository.existsById(imageId)) {
-                throw new IllegalArgumentException("Image not found: " + imageId);
-            }
+        // Update basic fields; associations are only touched when their id changes
+        String previousGroupId = plant.getGroupId();
+        boolean groupChanged = !request.groupId().equals(previousGroupId);
+        boolean thumbnailChanged = !request.thumbnailId().equals(plant.getThumbnailId());
+        plantMapper.updateEntityFromRequest(request, plant);
+        if (groupChanged) {
+            plant.setGroup(references.group());
+            plantGroupRepository.adjustPlantCount(previousGroupId, -1);
+            plantGroupRepository.adjustPlantCount(request.groupId(), 1);
+        }
+        if (thumbnailChanged) {
+            plant.setThumbnail(references.thumbnail());
         }
 
-        // Update basic fields
-        plantMapper.updateEntityFromRequest(request, plant);
+        // Update relationships in place, so unchanged rows are not rewritten
+        updateImages(plant, references.images());
+        updateIssues(plant, request.commonIssues());
 
-        // Update images relationship
-        plant.getImages().clear();
-        List<Image> newImages = Arrays.stream(request.imageIds())
-                .map(imageId -> imageRepository.findById(imageId).orElseThrow())
-                .collect(Collectors.toList());
-        plant.getImages().addAll(newImages);
+        // Managed entity: dirty checking flushes only what actually changed
+        eventPublisher.publishEvent(CatalogChangeEvent.updated(CatalogChangeEvent.Entity.PLANT, plant.getId()));
+        return plantMapper.toResponse(plant);
+    }
 
-        // Update issues relationship (remove old, add new)
-        plant.getCommonIssues().clear();
-        List<Issue> newIssues = request.commonIssues().stream()
-                .map(dto -> {
-                    Issue issue = plantMapper.toIssue(dto);
-                    issue.setPlantId(id);
-                    return issue;
-                })
-                .collect(Collectors.toList());
-        plant.getCommonIssues().addAll(newIssues);
+    /**
+     * Bring the ordered image list in line with the request position by position.
+     * Unchanged positions cost nothing; changed ones become a single row update,
+     * and only a length difference inserts or deletes rows.
+     */
+    private void updateImages(Plant plant, List<Image> requested) {
+        List<Image> images = plant.getImages();
+        for (int i = 0; i < requested.size(); i++) {
+            Image image = requested.get(i);
+            if (i >= images.size()) {
+                images.add(image);
+            } else if (!images.get(i).getId().equals(image.getId())) {
+                images.set(i, image);
+            }
+        }
+        while (images.size() > requested.size()) {
+            images.remove(images.size() - 1);
+        }
+    }
 
-        Plant updatedPlant = plantRepository.save(plant);
-        return plantMapper.toResponse(updatedPlant);
+    /**
+     * Match existing issues to the request: identical issues are kept untouched,
+     * edited ones reuse a leftover row (an update instead of delete + insert),
+     * and only the remainder is inserted or deleted.
+     */
+    private void updateIssues(Plant plant, List<IssueDto> requested) {
+        List<Issue> unmatched = new ArrayList<>(plant.getCommonIssues());
+        List<IssueDto> edited = new ArrayList<>();
+        for (IssueDto dto : requested) {
+            Optional<Issue> same = unmatched.stream()
+                    .filter(issue -> issue.getIssue().equals(dto.issue())
+                            && issue.getSolution().equals(dto.solution()))
+                    .findFirst();
+            same.ifPresentOrElse(unmatched::remove, () -> edited.add(dto));
+        }
+
+        Iterator<Issue> leftovers = unmatched.iterator();
+        for (IssueDto dto : edited) {
+            if (leftovers.hasNext()) {
+                Issue issue = leftovers.next();
+                leftovers.remove();
+                issue.setIssue(dto.issue());
+                issue.setSolution(dto.solution());
+            } else {
+                Issue issue = plantMapper.toIssue(dto);
+                issue.setPlantId(plant.getId());
+                plant.getCommonIssues().add(issue);
+            }
+        }
+        plant.getCommonIssues().removeAll(unmatched);
     }
 
     /**
      * Delete a plant by ID.
      */
     public void deletePlant(String id) {
-        if (!plantRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Plant not found: " + id);
-        }
-        plantRepository.deleteById(id);
+        Plant plant = plantRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Plant not found: " + id));
+        plantRepository.delete(plant);
+        plantGroupRepository.adjustPlantCount(plant.getGroupId(), -1);
+        eventPublisher.publishEvent(CatalogChangeEvent.deleted(CatalogChangeEvent.Entity.PLANT, id));
     }
 }
@@ -0,0 +1,451 @@
+package com.plants.backend.service;
+
+import com.plants.backend.dto.PlantSuggestionResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over plant common and scientific names for type-ahead.
+ * <p>
+ * Names are folded (lower-cased, diacritics stripped, whitespace collapsed) and stored in a
+ * radix trie whose every node keeps the best {@link #MAX_SUGGESTIONS} plants below it, so a
+ * lookup is a walk down the prefix with no scan or sort. Plants are ranked by popularity,
+ * the number of times their detail page was viewed since startup, then by shorter name.
+ * Views are collected without taking the index lock and folded into the ranking periodically.
+ */
+@Component
+public class PlantSuggestIndex extends PlantIndex<PlantSuggestIndex.Entry> {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final String NAME_COLUMNS = "SELECT id, group_id, name, scientific_name FROM plants";
+
+    private static final RowMapper<Entry> ROW_MAPPER = (rs, rowNum) -> new Entry(
+            rs.getString("id"), rs.getString("group_id"), rs.getString("name"), rs.getString("scientific_name"));
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int[] NO_ORDINALS = new int[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Long> pendingViews = new ConcurrentHashMap<>();
+
+    // Guarded by lock
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Integer> free = new ArrayList<>();
+    private Node root = new Node(new char[0]);
+
+    // Best first: most viewed, then shortest name, then alphabetical
+    private final Comparator<Integer> ranking = Comparator
+            .<Integer>comparingLong(ordinal -> -entries.get(ordinal).views)
+            .thenComparingInt(ordinal -> entries.get(ordinal).name.length())
+            .thenComparing(ordinal -> entries.get(ordinal).name)
+            .thenComparing(ordinal -> entries.get(ordinal).id);
+
+    static final class Entry {
+        final String id;
+        final String groupId;
+        final String name;
+        final String scientificName;
+        long views;
+
+        Entry(String id, String groupId, String name, String scientificName) {
+            this.id = id;
+            this.groupId = groupId;
+            this.name = name;
+            this.scientificName = scientificName;
+        }
+
+        List<String> keys() {
+            List<String> keys = new ArrayList<>(2);
+            for (String key : new String[]{fold(name), fold(scientificName)}) {
+                if (!key.isEmpty() && !keys.contains(key)) {
+                    keys.add(key);
+                }
+            }
+            return keys;
+        }
+    }
+
+    private static final class Node {
+        char[] label;
+        // Sorted by first label character
+        Node[] children = NO_CHILDREN;
+        // Plants with a key ending exactly here
+        int[] terminals = NO_ORDINALS;
+        // Best plants in this subtree, best first
+        int[] top = NO_ORDINALS;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+    }
+
+    public PlantSuggestIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Fold a name or typed prefix for matching: lower case, no diacritics, single spaces.
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    @Override
+    protected List<Entry> loadAll() {
+        return jdbcTemplate.query(NAME_COLUMNS + " ORDER BY id", ROW_MAPPER);
+    }
+
+    @Override
+    protected List<Entry> load(String id) {
+        return jdbcTemplate.query(NAME_COLUMNS + " WHERE id = ?", ROW_MAPPER, id);
+    }
+
+    /**
+     * Rebuild the trie, keeping the view counts of plants that still exist.
+     */
+    @Override
+    protected void rebuildLocked(List<Entry> rows) {
+        Map<String, Long> views = new HashMap<>();
+        entries.forEach(entry -> {
+            if (entry != null) {
+                views.put(entry.id, entry.views);
+            }
+        });
+        ordinals.clear();
+        entries.clear();
+        free.clear();
+        root = new Node(new char[0]);
+        for (Entry row : rows) {
+            row.views = views.getOrDefault(row.id, 0L);
+            int ordinal = entries.size();
+            entries.add(row);
+            ordinals.put(row.id, ordinal);
+            row.keys().forEach(key -> insert(key, ordinal));
+        }
+        rankSubtree(root);
+    }
+
+    @Override
+    protected void replaceLocked(String id, List<Entry> rows) {
+        Integer existing = ordinals.get(id);
+        long views = existing != null ? entries.get(existing).views : 0;
+        removeLocked(id);
+        for (Entry row : rows) {
+            row.views = views;
+            addLocked(row);
+        }
+    }
+
+    @Override
+    protected List<String> groupMembersLocked(String groupId) {
+        return entries.stream()
+                .filter(entry -> entry != null && groupId.equals(entry.groupId))
+                .map(entry -> entry.id)
+                .toList();
+    }
+
+    /**
+     * Count a view of a plant's detail page towards its popularity. Cheap enough for every
+     * request; the ranking catches up on the next {@link #applyViews()}.
+     */
+    public void recordView(String id) {
+        pendingViews.merge(id, 1L, Long::sum);
+    }
+
+    /**
+     * Fold the views recorded since the last run into the ranking, re-ranking only the
+     * paths of the plants that were viewed.
+     */
+    @Scheduled(
+            initialDelayString = "${plants.suggest.rerank-interval:1m}",
+            fixedDelayString = "${plants.suggest.rerank-interval:1m}")
+    public void applyViews() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (String id : List.copyOf(pendingViews.keySet())) {
+                // Views recorded after the removal start a new count for the next run
+                long views = pendingViews.remove(id);
+                Integer ordinal = ordinals.get(id);
+                if (ordinal != null) {
+                    Entry entry = entries.get(ordinal);
+                    entry.views += views;
+                    entry.keys().forEach(this::rankPath);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The most popular plants with a common or scientific name starting with the prefix,
+     * compared after folding. A plant matching on both names is returned once.
+     */
+    public List<PlantSuggestionResponse> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        String folded = fold(prefix);
+        if (folded.isEmpty()) {
+            throw new IllegalArgumentException("prefix must not be blank");
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int matched = 0;
+            while (matched < folded.length()) {
+                node = child(node, folded.charAt(matched));
+                if (node == null) {
+                    return List.of();
+                }
+                int length = Math.min(node.label.length, folded.length() - matched);
+                for (int i = 0; i < length; i++) {
+                    if (node.label[i] != folded.charAt(matched + i)) {
+                        return List.of();
+                    }
+                }
+                matched += length;
+            }
+
+            int count = Math.min(limit, node.top.length);
+            List<PlantSuggestionResponse> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Entry entry = entries.get(node.top[i]);
+                suggestions.add(new PlantSuggestionResponse(entry.id, entry.name, entry.scientificName));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(Entry entry) {
+        int ordinal;
+        if (free.isEmpty()) {
+            ordinal = entries.size();
+            entries.add(entry);
+        } else {
+            ordinal = free.remove(free.size() - 1);
+            entries.set(ordinal, entry);
+        }
+        ordinals.put(entry.id, ordinal);
+        entry.keys().forEach(key -> {
+            insert(key, ordinal);
+            rankPath(key);
+        });
+    }
+
+    @Override
+    protected void removeLocked(String id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        Entry entry = entries.set(ordinal, null);
+        free.add(ordinal);
+        List<String> keys = entry.keys();
+        keys.forEach(key -> delete(key, ordinal));
+        keys.forEach(this::rankPath);
+    }
+
+    private void insert(String key, int ordinal) {
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = child(node, key.charAt(matched));
+            if (child == null) {
+                Node leaf = new Node(key.substring(matched).toCharArray());
+                leaf.terminals = new int[]{ordinal};
+                addChild(node, leaf);
+                return;
+            }
+            int common = 0;
+            while (common < child.label.length && matched + common < key.length()
+                    && child.label[common] == key.charAt(matched + common)) {
+                common++;
+            }
+            if (common < child.label.length) {
+                // Split the edge where the key diverges from it
+                Node split = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                split.children = new Node[]{child};
+                split.top = child.top;
+                replaceChild(node, child, split);
+                child = split;
+            }
+            node = child;
+            matched += common;
+        }
+        node.terminals = append(node.terminals, ordinal);
+    }
+
+    private void delete(String key, int ordinal) {
+        List<Node> path = pathTo(key);
+        if (path == null) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        node.terminals = Arrays.stream(node.terminals).filter(value -> value != ordinal).toArray();
+
+        // Drop nodes left empty and merge pass-through nodes into their only child
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            Node parent = path.get(i - 1);
+            if (current.terminals.length == 0 && current.children.length == 0) {
+                parent.children = Arrays.stream(parent.children)
+                        .filter(child -> child != current)
+                        .toArray(Node[]::new);
+            } else if (current.terminals.length == 0 && current.children.length == 1) {
+                Node only = current.children[0];
+                char[] label = Arrays.copyOf(current.label, current.label.length + only.label.length);
+                System.arraycopy(only.label, 0, label, current.label.length, only.label.length);
+                current.label = label;
+                current.children = only.children;
+                current.terminals = only.terminals;
+                current.top = only.top;
+            }
+        }
+    }
+
+    /**
+     * Nodes from the root to the node where the key ends, or null when it is not in the trie.
+     */
+    private List<Node> pathTo(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int matched = 0;
+        while (matched < key.length()) {
+            node = child(node, key.charAt(matched));
+            if (node == null || node.label.length > key.length() - matched
+                    || !key.startsWith(new String(node.label), matched)) {
+                return null;
+            }
+            path.add(node);
+            matched += node.label.length;
+        }
+        return path;
+    }
+
+    /**
+     * Recompute the best plants of every node on the key's path, deepest first. Nodes off the
+     * path are unaffected by a change to this key. Tolerates keys no longer in the trie by
+     * re-ranking the part of the path that still exists.
+     */
+    private void rankPath(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int matched = 0;
+        while (matched < key.length()) {
+            node = child(node, key.charAt(matched));
+            if (node == null) {
+                break;
+            }
+            path.add(node);
+            matched += node.label.length;
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            rank(path.get(i));
+        }
+    }
+
+    private void rankSubtree(Node node) {
+        for (Node child : node.children) {
+            rankSubtree(child);
+        }
+        rank(node);
+    }
+
+    /**
+     * The best plants of a subtree are among the node's own plants and the best of each child.
+     * A child may still list a plant being removed until its own path is re-ranked.
+     */
+    private void rank(Node node) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int ordinal : node.terminals) {
+            candidates.add(ordinal);
+        }
+        for (Node child : node.children) {
+            for (int ordinal : child.top) {
+                if (entries.get(ordinal) != null) {
+                    candidates.add(ordinal);
+                }
+            }
+        }
+        node.top = candidates.stream()
+                .distinct()
+                .sorted(ranking)
+                .limit(MAX_SUGGESTIONS)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static Node child(Node node, char first) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = node.children[mid].label[0];
+            if (label < first) {
+                low = mid + 1;
+            } else if (label > first) {
+                high = mid - 1;
+            } else {
+                return node.children[mid];
+            }
+        }
+        return null;
+    }
+
+    private static void addChild(Node node, Node child) {
+        Node[] children = Arrays.copyOf(node.children, node.children.length + 1);
+        int index = children.length - 1;
+        while (index > 0 && children[index - 1].label[0] > child.label[0]) {
+            children[index] = children[index - 1];
+            index--;
+        }
+        children[index] = child;
+        node.children = children;
+    }
+
+    private static void replaceChild(Node node, Node previous, Node replacement) {
+        for (int i = 0; i < node.children.length; i++) {
+            if (node.children[i] == previous) {
+                node.children[i] = replacement;
+                return;
+            }
+        }
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] appended = Arrays.copyOf(values, values.length + 1);
+        appended[values.length] = value;
+        return appended;
+    }
+}
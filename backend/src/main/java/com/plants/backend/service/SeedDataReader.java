@@ -0,0 +1,149 @@
+package com.plants.backend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plants.backend.dto.SeedPlant;
+import com.plants.backend.dto.SeedPlantGroup;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams a seed pack ({@code {"plantGroups": [...], "plants": [...]}}) with Jackson's
+ * {@link JsonParser}, binding one group or plant at a time and handing them out in batches.
+ * Memory use is bounded by the batch size, not by the size of the pack.
+ * Groups must precede plants, since plants reference their group; other fields are skipped.
+ */
+@Component
+public class SeedDataReader {
+
+    private static final String GROUPS_FIELD = "plantGroups";
+    private static final String PLANTS_FIELD = "plants";
+
+    private final ObjectMapper objectMapper;
+
+    public SeedDataReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Receives one batch of records; the list is not reused after the call.
+     */
+    @FunctionalInterface
+    public interface BatchHandler<T> {
+        void handle(List<T> batch) throws IOException;
+    }
+
+    public record Counts(long plantGroups, long plants) {
+    }
+
+    /**
+     * Count groups and plants without binding them, for progress reporting.
+     */
+    public Counts count(InputStream input) throws IOException {
+        long groups = 0;
+        long plants = 0;
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            expectStartObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case GROUPS_FIELD -> groups += skipElements(parser);
+                    case PLANTS_FIELD -> plants += skipElements(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new Counts(groups, plants);
+    }
+
+    /**
+     * Read the pack, passing groups and plants to the handlers in batches of at most batchSize.
+     *
+     * @throws IOException if the JSON is malformed or plants appear before groups
+     */
+    public void read(InputStream input, int batchSize,
+                     BatchHandler<SeedPlantGroup> groupHandler,
+                     BatchHandler<SeedPlant> plantHandler) throws IOException {
+        boolean plantsRead = false;
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            expectStartObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case GROUPS_FIELD -> {
+                        if (plantsRead) {
+                            throw new IOException("Seed data must list " + GROUPS_FIELD + " before " + PLANTS_FIELD);
+                        }
+                        readElements(parser, SeedPlantGroup.class, batchSize, groupHandler);
+                    }
+                    case PLANTS_FIELD -> {
+                        plantsRead = true;
+                        readElements(parser, SeedPlant.class, batchSize, plantHandler);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private <T> void readElements(JsonParser parser, Class<T> type, int batchSize, BatchHandler<T> handler)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expectStartArray(parser);
+
+        List<T> batch = new ArrayList<>(batchSize);
+        while (nextElement(parser)) {
+            batch.add(parser.readValueAs(type));
+            if (batch.size() == batchSize) {
+                handler.handle(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            handler.handle(batch);
+        }
+    }
+
+    private long skipElements(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        expectStartArray(parser);
+
+        long count = 0;
+        while (nextElement(parser)) {
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
+
+    private boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("Unexpected end of seed data");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    private void expectStartObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Seed data must be a JSON object");
+        }
+    }
+
+    private void expectStartArray(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected an array for " + parser.currentName());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.plants.backend.service;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A seed, reset or catalog generation run executing in the background, identified by a random id.
+ */
+@Getter
+public class SeedJob {
+
+    public enum Type {
+        SEED, RESET, GENERATE
+    }
+
+    public enum Status {
+        RUNNING, SUCCEEDED, FAILED, CANCELLED
+    }
+
+    private final String id;
+    private final Type type;
+    private final Instant startedAt = Instant.now();
+    private final SeedProgress progress = new SeedProgress();
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    SeedJob(String id, Type type) {
+        this.id = id;
+        this.type = type;
+    }
+
+    void complete(Status status, String error) {
+        progress.finish();
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+}
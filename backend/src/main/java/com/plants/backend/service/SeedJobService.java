@@ -0,0 +1,101 @@
+package com.plants.backend.service;
+
+import com.plants.backend.exception.ResourceNotFoundException;
+import com.plants.backend.exception.SeedJobConflictException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs seed, reset and catalog generation as background jobs, one at a time, so the HTTP
+ * request returns right away instead of outliving proxy timeouts. Finished jobs are kept
+ * for status queries until newer ones push them out.
+ */
+@Slf4j
+@Service
+public class SeedJobService {
+
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("seed-job").daemon().factory());
+    private final Map<String, SeedJob> jobs = new LinkedHashMap<>();
+
+    /**
+     * The work of a job, reporting to and checking cancellation through its progress.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run(SeedProgress progress) throws Exception;
+    }
+
+    /**
+     * Start a job in the background.
+     *
+     * @throws SeedJobConflictException if another job is still running
+     */
+    public synchronized SeedJob start(SeedJob.Type type, Task task) {
+        for (SeedJob job : jobs.values()) {
+            if (job.getStatus() == SeedJob.Status.RUNNING) {
+                throw new SeedJobConflictException("Seed job " + job.getId() + " is still running");
+            }
+        }
+
+        SeedJob job = new SeedJob(UUID.randomUUID().toString(), type);
+        jobs.put(job.getId(), job);
+        Iterator<SeedJob> oldest = jobs.values().iterator();
+        while (jobs.size() > MAX_RETAINED_JOBS) {
+            oldest.next();
+            oldest.remove();
+        }
+
+        executor.execute(() -> run(job, task));
+        return job;
+    }
+
+    public synchronized SeedJob getJob(String id) {
+        SeedJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Seed job not found: " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Request cancellation. The job stops before its next chunk; chunks already committed are kept.
+     * Cancelling a finished job has no effect.
+     */
+    public SeedJob cancel(String id) {
+        SeedJob job = getJob(id);
+        job.getProgress().cancel();
+        return job;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (this) {
+            jobs.values().forEach(job -> job.getProgress().cancel());
+        }
+        executor.shutdown();
+    }
+
+    private void run(SeedJob job, Task task) {
+        try {
+            task.run(job.getProgress());
+            job.complete(SeedJob.Status.SUCCEEDED, null);
+        } catch (CancellationException e) {
+            job.complete(SeedJob.Status.CANCELLED, null);
+        } catch (Exception e) {
+            log.error("Seed job {} ({}) failed", job.getId(), job.getType(), e);
+            job.complete(SeedJob.Status.FAILED, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+}
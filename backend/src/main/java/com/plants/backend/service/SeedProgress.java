@@ -0,0 +1,92 @@
+package com.plants.backend.service;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a seed or reset run. Written by SeedService as chunks commit and read
+ * concurrently by the job status endpoint. Items are the groups and plants of the seed
+ * pack (images are stored with the first batch that references them); the total is known
+ * once the pack has been counted.
+ * <p>
+ * Cancellation is cooperative and checked before each chunk, so whatever was committed
+ * up to that point stays in the database.
+ */
+public class SeedProgress {
+
+    public enum Phase {
+        PENDING, DELETING, COUNTING, IMAGES, GROUPS, PLANTS, FINISHING, DONE
+    }
+
+    private final long startedNanos = System.nanoTime();
+    private final AtomicLong itemsDone = new AtomicLong();
+    private volatile Phase phase = Phase.PENDING;
+    private volatile long itemsTotal;
+    private volatile long finishedNanos;
+    private volatile boolean cancelRequested;
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public long getItemsDone() {
+        return itemsDone.get();
+    }
+
+    public long getItemsTotal() {
+        return itemsTotal;
+    }
+
+    /**
+     * Time since the run was created, up to when it finished.
+     */
+    public Duration getElapsed() {
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        return Duration.ofNanos(end - startedNanos);
+    }
+
+    /**
+     * Items committed per second over the whole run so far.
+     */
+    public double getItemsPerSecond() {
+        double seconds = getElapsed().toNanos() / 1e9;
+        return seconds > 0 ? getItemsDone() / seconds : 0;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    /**
+     * Ask the run to stop before its next chunk.
+     */
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    void startPhase(Phase phase) {
+        this.phase = phase;
+    }
+
+    void setItemsTotal(long itemsTotal) {
+        this.itemsTotal = itemsTotal;
+    }
+
+    void advance(int items) {
+        itemsDone.addAndGet(items);
+    }
+
+    void finish() {
+        finishedNanos = System.nanoTime();
+    }
+
+    /**
+     * @throws CancellationException if cancellation was requested
+     */
+    void checkCancelled() {
+        if (cancelRequested) {
+            throw new CancellationException("Seed run cancelled in phase " + phase);
+        }
+    }
+}
@@ -1,50 +1,76 @@
 package com.plants.backend.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plants.backend.config.SeedProperties;
 import com.plants.backend.dto.*;
 import com.plants.backend.entity.*;
+import com.plants.backend.event.CatalogChangeEvent;
 import com.plants.backend.repository.ImageRepository;
 import com.plants.backend.repository.IssueRepository;
 import com.plants.backend.repository.PlantGroupRepository;
 import com.plants.backend.repository.PlantRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.*;
 
 /**
  * Service for seeding the database with initial plant data.
  * Loads images and plant data from classpath resources.
+ * The seed pack is streamed and written in chunks (plants.seed.chunk-size), so large packs
+ * neither need to fit in memory nor hold one long transaction; progress and cancellation
+ * go through {@link SeedProgress}.
+ * When called within a transaction, all chunks join it instead.
  */
 @Service
-@Transactional
 public class SeedService {
 
     private final ResourceLoader resourceLoader;
-    private final ObjectMapper objectMapper;
+    private final SeedDataReader seedDataReader;
     private final ImageRepository imageRepository;
     private final PlantGroupRepository plantGroupRepository;
     private final PlantRepository plantRepository;
     private final IssueRepository issueRepository;
+    private final ImageProcessor imageProcessor;
+    private final PlantCountReconciler plantCountReconciler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
 
     public SeedService(
             ResourceLoader resourceLoader,
-            ObjectMapper objectMapper,
+            SeedDataReader seedDataReader,
             ImageRepository imageRepository,
             PlantGroupRepository plantGroupRepository,
             PlantRepository plantRepository,
-            IssueRepository issueRepository
+            IssueRepository issueRepository,
+            ImageProcessor imageProcessor,
+            PlantCountReconciler plantCountReconciler,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            SeedProperties properties
     ) {
         this.resourceLoader = resourceLoader;
-        this.objectMapper = objectMapper;
+        this.seedDataReader = seedDataReader;
         this.imageRepository = imageRepository;
         this.plantGroupRepository = plantGroupRepository;
         this.plantRepository = plantRepository;
         this.issueRepository = issueRepository;
+        this.imageProcessor = imageProcessor;
+        this.plantCountReconciler = plantCountReconciler;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = properties.chunkSize();
     }
 
     /**
@@ -54,18 +80,50 @@ public class SeedService {
      * @throws IOException if resource loading or parsing fails
      */
     public void seedDatabase() throws IOException {
-        // 1. Load and parse plants-data.json
-        Resource dataResource = resourceLoader.getResource("classpath:seed-data/plants-data.json");
-        SeedData seedData = objectMapper.readValue(dataResource.getInputStream(), SeedData.class);
+        seedDatabase(new SeedProgress());
+    }
 
-        // 2. Load all images and create mapping from filename to UUID
-        Map<String, String> filenameToIdMap = loadImages(seedData);
+    /**
+     * Seeds the database, reporting progress as chunks commit.
+     * If the run fails or is cancelled after committing some chunks, plant counts are still
+     * reconciled and clients are told to reload, since the catalog has changed.
+     *
+     * @throws IOException if resource loading or parsing fails
+     * @throws java.util.concurrent.CancellationException if cancelled through the progress
+     */
+    public void seedDatabase(SeedProgress progress) throws IOException {
+        Resource dataResource = resourceLoader.getResource("classpath:seed-data/plants-data.json");
 
-        // 3. Create plant groups with image references
-        createPlantGroups(seedData.plantGroups(), filenameToIdMap);
+        // 1. Count groups and plants with a quick pass over plants-data.json, for progress
+        progress.startPhase(SeedProgress.Phase.COUNTING);
+        SeedDataReader.Counts counts;
+        try (InputStream input = dataResource.getInputStream()) {
+            counts = seedDataReader.count(input);
+        }
+        progress.setItemsTotal(counts.plantGroups() + counts.plants());
+
+        // Filename to generated UUID for every image stored so far
+        Map<String, String> filenameToIdMap = new HashMap<>();
+        try (InputStream input = dataResource.getInputStream()) {
+            // 2. Stream groups, then plants, storing the images each batch references first
+            seedDataReader.read(input, chunkSize,
+                    groups -> writeGroups(groups, filenameToIdMap, progress),
+                    plants -> writePlants(plants, filenameToIdMap, progress));
+        } catch (IOException | RuntimeException e) {
+            if (progress.getItemsDone() > 0 || !filenameToIdMap.isEmpty()) {
+                try {
+                    announceReset();
+                } catch (RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
 
-        // 4. Create plants with all relationships
-        createPlants(seedData.plants(), filenameToIdMap);
+        // 3. Set all group plant counts with one grouped update rather than an increment per plant
+        progress.startPhase(SeedProgress.Phase.FINISHING);
+        announceReset();
+        progress.startPhase(SeedProgress.Phase.DONE);
     }
 
     /**
@@ -74,73 +132,62 @@ public class SeedService {
      * @throws IOException if seeding fails
      */
     public void resetDatabase() throws IOException {
-        // Delete all data (in correct order due to foreign keys)
-        // Issues and plant-image relationships are cascaded from plants
-        plantRepository.deleteAll();
-        plantGroupRepository.deleteAll();
-        imageRepository.deleteAll();
-
-        // Re-seed
-        seedDatabase();
+        resetDatabase(new SeedProgress());
     }
 
     /**
-     * Loads all image files from classpath and stores them in the database.
-     * Returns a mapping from filename to generated UUID.
+     * Resets the database, reporting progress. The delete is a handful of bulk statements
+     * in one short transaction; re-seeding then commits in chunks as usual.
+     *
+     * @throws IOException if seeding fails
      */
-    private Map<String, String> loadImages(SeedData seedData) throws IOException {
-        Map<String, String> filenameToId = new HashMap<>();
-        Set<String> allImageFilenames = collectAllImageFilenames(seedData);
-
-        for (String filename : allImageFilenames) {
-            // Load image from classpath
-            Resource imageResource = resourceLoader.getResource(
-                    "classpath:seed-data/images/" + filename
-            );
-
-            if (!imageResource.exists()) {
-                throw new IOException("Image file not found: " + filename);
-            }
-
-            // Read bytes
-            byte[] bytes = imageResource.getInputStream().readAllBytes();
-
-            // Determine content type from filename
-            String contentType = getContentType(filename);
-
-            // Create and save Image entity
-            Image image = new Image();
-            image.setId(UUID.randomUUID().toString());
-            image.setFilename(filename);
-            image.setContentType(contentType);
-            image.setBytes(bytes);
-            image.setCreatedDate(LocalDateTime.now());
-
-            imageRepository.save(image);
-            filenameToId.put(filename, image.getId());
-        }
+    public void resetDatabase(SeedProgress progress) throws IOException {
+        progress.checkCancelled();
+        progress.startPhase(SeedProgress.Phase.DELETING);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Delete all data (in correct order due to foreign keys); plant-image links are
+            // cleaned up with the plants. Bulk deletes also invalidate the affected cache regions.
+            issueRepository.deleteAllInBatch();
+            plantRepository.deleteAllInBatch();
+            plantGroupRepository.deleteAllInBatch();
+            imageRepository.deleteAllInBatch();
+            // Detach instances of the deleted rows still held by an enclosing transaction
+            entityManager.clear();
+        });
 
-        // Flush to ensure all images are persisted before creating relationships
-        imageRepository.flush();
-
-        return filenameToId;
+        // Re-seed
+        seedDatabase(progress);
     }
 
     /**
-     * Collects all unique image filenames referenced in the seed data.
+     * Stores a batch of plant groups, after the images they reference.
      */
-    private Set<String> collectAllImageFilenames(SeedData seedData) {
-        Set<String> filenames = new HashSet<>();
+    private void writeGroups(List<SeedPlantGroup> groups, Map<String, String> filenameToIdMap,
+                             SeedProgress progress) throws IOException {
+        progress.startPhase(SeedProgress.Phase.GROUPS);
+        progress.checkCancelled();
 
-        // Collect group images
-        for (SeedPlantGroup group : seedData.plantGroups()) {
+        Set<String> filenames = new LinkedHashSet<>();
+        for (SeedPlantGroup group : groups) {
             if (group.imageFilename() != null) {
                 filenames.add(group.imageFilename());
             }
         }
+        loadImages(filenames, filenameToIdMap);
+
+        writeChunk(groups, progress, () -> createPlantGroups(groups, filenameToIdMap));
+    }
+
+    /**
+     * Stores a batch of plants, after the thumbnails and detail images they reference.
+     */
+    private void writePlants(List<SeedPlant> plants, Map<String, String> filenameToIdMap,
+                             SeedProgress progress) throws IOException {
+        progress.startPhase(SeedProgress.Phase.PLANTS);
+        progress.checkCancelled();
 
-        // Collect plant images (thumbnails and detail images)
-        for (SeedPlant plant : seedData.plants()) {
+        Set<String> filenames = new LinkedHashSet<>();
+        for (SeedPlant plant : plants) {
             if (plant.thumbnailFilename() != null) {
                 filenames.add(plant.thumbnailFilename());
             }
@@ -148,8 +195,82 @@ public class SeedService {
                 filenames.addAll(plant.imageFilenames());
             }
         }
+        loadImages(filenames, filenameToIdMap);
 
-        return filenames;
+        writeChunk(plants, progress, () -> createPlants(plants, filenameToIdMap));
+    }
+
+    /**
+     * Loads the given image files from classpath, skipping those already stored, and saves
+     * them in chunks. Files are read and processed outside the transaction. Adds the
+     * generated UUIDs to the filename mapping.
+     */
+    private void loadImages(Set<String> filenames, Map<String, String> filenameToId) throws IOException {
+        List<Image> images = new ArrayList<>(chunkSize);
+        for (String filename : filenames) {
+            if (filenameToId.containsKey(filename)) {
+                continue;
+            }
+            images.add(readImage(filename));
+            if (images.size() == chunkSize) {
+                saveImages(images, filenameToId);
+                images = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!images.isEmpty()) {
+            saveImages(images, filenameToId);
+        }
+    }
+
+    private void saveImages(List<Image> images, Map<String, String> filenameToId) {
+        transactionTemplate.executeWithoutResult(status -> imageRepository.saveAll(images));
+        images.forEach(image -> filenameToId.put(image.getFilename(), image.getId()));
+    }
+
+    private Image readImage(String filename) throws IOException {
+        // Load image from classpath
+        Resource imageResource = resourceLoader.getResource(
+                "classpath:seed-data/images/" + filename
+        );
+
+        if (!imageResource.exists()) {
+            throw new IOException("Image file not found: " + filename);
+        }
+
+        // Read bytes
+        byte[] bytes;
+        try (InputStream input = imageResource.getInputStream()) {
+            bytes = input.readAllBytes();
+        }
+
+        // Create Image entity with content type determined from filename
+        Image image = new Image();
+        image.setId(UUID.randomUUID().toString());
+        image.setFilename(filename);
+        image.setContentType(getContentType(filename));
+        image.setBytes(bytes);
+        image.setCreatedDate(LocalDateTime.now());
+        imageProcessor.process(image);
+        return image;
+    }
+
+    /**
+     * Commits one chunk in its own transaction (or the caller's) and counts it as done.
+     */
+    private void writeChunk(List<?> chunk, SeedProgress progress, Runnable write) {
+        transactionTemplate.executeWithoutResult(status -> write.run());
+        progress.advance(chunk.size());
+    }
+
+    /**
+     * Reconciles group plant counts and tells clients to drop everything they hold.
+     */
+    private void announceReset() {
+        transactionTemplate.executeWithoutResult(status -> {
+            plantRepository.flush();
+            plantCountReconciler.reconcile();
+            eventPublisher.publishEvent(CatalogChangeEvent.reset());
+        });
     }
 
     /**
@@ -183,9 +304,6 @@ public class SeedService {
 
             plantGroupRepository.save(group);
         }
-
-        // Flush to ensure all groups are persisted
-        plantGroupRepository.flush();
     }
 
     /**
@@ -0,0 +1,92 @@
+package com.plants.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load,
+ * callers arriving while it is in flight wait for and share its result (or exception).
+ * <p>
+ * The shared load runs in its own read-only transaction, so waiting callers hold no
+ * database connection. Callers already inside a transaction load on their own, since
+ * they may see uncommitted changes that must not leak to others. This relies on
+ * open-in-view being disabled: otherwise the shared load would join the leader
+ * request's entity manager and hand its managed entities to other threads. A caller that waits
+ * longer than the timeout stops waiting and loads by itself, and the stuck load is no
+ * longer offered to new callers.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration timeout;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration timeout, PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.coalesced = Counter.builder("plants.single-flight.coalesced")
+                .description("Loads that shared an in-flight load instead of querying the database")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("plants.single-flight.timeouts")
+                .description("Callers that gave up waiting for an in-flight load and loaded by themselves")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing == null) {
+            try {
+                V value = readOnlyTransaction.execute(status -> loader.get());
+                leader.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                leader.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, leader);
+            }
+        }
+
+        coalesced.increment();
+        try {
+            return existing.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            inFlight.remove(key, existing);
+            return readOnlyTransaction.execute(status -> loader.get());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to load " + key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to load " + key, e);
+        }
+    }
+}
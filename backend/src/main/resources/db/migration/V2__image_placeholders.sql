@@ -0,0 +1,4 @@
+-- Low-quality image placeholders, computed once per image at upload/seed time
+
+ALTER TABLE images ADD COLUMN placeholder TEXT;
+ALTER TABLE images ADD COLUMN dominant_color VARCHAR(7);
@@ -0,0 +1,6 @@
+-- Original and optimized byte sizes recorded by the upload-time optimization stage
+
+ALTER TABLE images ADD COLUMN original_size BIGINT;
+ALTER TABLE images ADD COLUMN optimized_size BIGINT;
+
+UPDATE images SET original_size = octet_length(bytes);
@@ -0,0 +1,6 @@
+-- Image dimensions and stored byte size, read from the image header at upload/seed time.
+-- Existing rows are filled in by ImageMetadataBackfill (rows with NULL byte_size).
+
+ALTER TABLE images ADD COLUMN width INTEGER;
+ALTER TABLE images ADD COLUMN height INTEGER;
+ALTER TABLE images ADD COLUMN byte_size BIGINT;
@@ -0,0 +1,5 @@
+-- Serves "plants of a group, ordered by name" (including the first-N-per-group
+-- home page query) from the index alone; supersedes the plain group_id index
+
+CREATE INDEX idx_plants_group_id_name ON plants(group_id, name, id);
+DROP INDEX idx_plants_group_id;
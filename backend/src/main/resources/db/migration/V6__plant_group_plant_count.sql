@@ -0,0 +1,7 @@
+-- Denormalized number of plants per group, maintained by the application
+-- and periodically reconciled against the plants table
+
+ALTER TABLE plant_groups ADD COLUMN plant_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE plant_groups g
+SET plant_count = (SELECT count(*) FROM plants p WHERE p.group_id = g.id);
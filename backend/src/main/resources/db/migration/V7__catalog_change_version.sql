@@ -0,0 +1,4 @@
+-- Numbers catalog changes across all backend replicas, so that change feed
+-- event ids mean the same on every replica
+
+CREATE SEQUENCE catalog_change_version;
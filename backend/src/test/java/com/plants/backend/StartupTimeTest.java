@@ -0,0 +1,53 @@
+package com.plants.backend;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports time-to-ready in the test report. The nested configuration gives this class
+ * its own context, so the measured startup is a full one rather than a cached context's.
+ * No budget is asserted: wall-clock time depends on the machine running the build.
+ */
+class StartupTimeTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ReadyTime readyTime;
+
+    @TestConfiguration
+    static class StartupTimeConfiguration {
+
+        @Bean
+        ReadyTime readyTime() {
+            return new ReadyTime();
+        }
+    }
+
+    static class ReadyTime implements ApplicationListener<ApplicationReadyEvent> {
+
+        private volatile Duration timeTaken;
+
+        @Override
+        public void onApplicationEvent(ApplicationReadyEvent event) {
+            timeTaken = event.getTimeTaken();
+        }
+    }
+
+    @Test
+    void application_shouldReportTimeToReady(TestReporter testReporter) {
+        // When
+        Duration timeToReady = readyTime.timeTaken;
+
+        // Then
+        assertThat(timeToReady).isNotNull();
+        testReporter.publishEntry("timeToReadyMillis", String.valueOf(timeToReady.toMillis()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.plants.backend.config;
+
+import com.plants.backend.BaseIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ConcurrencyLimitTest extends BaseIntegrationTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofMillis(200).toNanos();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void publicEndpoints_shouldRejectWith503AndRetryAfterWhenLimitReached() throws Exception {
+        // Given
+        int held = saturate(limiter);
+        double rejectedBefore = limiter.getRejectedCount();
+
+        try {
+            // When/Then
+            mockMvc.perform(get("/api/plant-groups"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.status").value(503));
+            mockMvc.perform(get("/api/images/{id}", "any-id"))
+                    .andExpect(status().isServiceUnavailable());
+            assertThat(limiter.getRejectedCount()).isEqualTo(rejectedBefore + 2);
+        } finally {
+            releaseAll(limiter, held);
+        }
+
+        mockMvc.perform(get("/api/plant-groups"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void adminEndpoints_shouldNotBeLimited() throws Exception {
+        // Given
+        int held = saturate(limiter);
+
+        try {
+            // When/Then
+            mockMvc.perform(get("/api/admin/plant-groups"))
+                    .andExpect(status().isOk());
+        } finally {
+            releaseAll(limiter, held);
+        }
+    }
+
+    @Test
+    void metrics_shouldExposeLimitInFlightAndRejected() {
+        // When/Then
+        assertThat(meterRegistry.get("plants.concurrency.limit").gauge().value()).isEqualTo(limiter.getLimit());
+        assertThat(meterRegistry.get("plants.concurrency.in-flight").gauge().value()).isEqualTo(limiter.getInFlight());
+        assertThat(meterRegistry.get("plants.concurrency.rejected").counter()).isNotNull();
+    }
+
+    @Test
+    void limit_shouldGrowWhileLatencyIsStable() {
+        // Given
+        AdaptiveConcurrencyLimiter fresh = newLimiter();
+        int initial = fresh.getLimit();
+
+        // When
+        runFullyLoaded(fresh, FAST, 50);
+
+        // Then
+        assertThat(fresh.getLimit()).isGreaterThan(initial);
+    }
+
+    @Test
+    void limit_shouldShrinkWhenLatencyRises() {
+        // Given
+        AdaptiveConcurrencyLimiter fresh = newLimiter();
+        runFullyLoaded(fresh, FAST, 50);
+        int beforeSlowdown = fresh.getLimit();
+
+        // When
+        runFullyLoaded(fresh, SLOW, 50);
+
+        // Then
+        assertThat(fresh.getLimit()).isLessThan(beforeSlowdown);
+    }
+
+    @Test
+    void limit_shouldBackOffOnFailuresButNotBelowMinimum() {
+        // Given
+        AdaptiveConcurrencyLimiter fresh = newLimiter();
+        int initial = fresh.getLimit();
+
+        // When
+        fresh.tryAcquire();
+        fresh.release(FAST, true);
+
+        // Then
+        assertThat(fresh.getLimit()).isLessThan(initial);
+
+        for (int i = 0; i < 100; i++) {
+            fresh.tryAcquire();
+            fresh.release(FAST, true);
+        }
+        assertThat(fresh.getLimit()).isEqualTo(2);
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter() {
+        ConcurrencyLimitProperties properties =
+                new ConcurrencyLimitProperties(true, 10, 2, 100, 1.5, 0.2, Duration.ofSeconds(1));
+        return new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Run rounds of requests that use the whole limit, all taking the given latency.
+     */
+    private void runFullyLoaded(AdaptiveConcurrencyLimiter limiter, long latencyNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int held = saturate(limiter);
+            for (int i = 0; i < held; i++) {
+                limiter.release(latencyNanos, false);
+            }
+        }
+    }
+
+    private int saturate(AdaptiveConcurrencyLimiter limiter) {
+        int held = 0;
+        while (limiter.tryAcquire()) {
+            held++;
+        }
+        return held;
+    }
+
+    private void releaseAll(AdaptiveConcurrencyLimiter limiter, int held) {
+        for (int i = 0; i < held; i++) {
+            limiter.release(FAST, false);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.plants.backend.config;
+
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.event.CatalogChangeEvent;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Uses a second embedded Postgres as a simulated replica. The two servers are told
+ * apart by their port, so no replication is needed to observe the routing.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadReplicaRoutingTest extends BaseIntegrationTest {
+
+    private static final EmbeddedPostgres replica = startReplica();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("plants.datasource.replicas[0].url", () -> replica.getJdbcUrl("postgres", "postgres"));
+        registry.add("plants.datasource.replicas[0].username", () -> "postgres");
+        registry.add("plants.datasource.health-check-interval", () -> "200ms");
+        registry.add("plants.datasource.read-your-writes-window", () -> "1s");
+    }
+
+    @AfterAll
+    static void stopReplica() throws IOException {
+        replica.close();
+    }
+
+    @Test
+    @Order(1)
+    void readOnlyTransaction_shouldUseReplica() {
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(serverPort(true)).isEqualTo(replica.getPort()));
+    }
+
+    @Test
+    @Order(2)
+    void readWriteTransaction_shouldUsePrimary() {
+        assertThat(serverPort(false)).isNotEqualTo(replica.getPort());
+    }
+
+    @Test
+    @Order(3)
+    void readOnlyTransaction_afterChange_shouldUsePrimaryWithinWindow() {
+        // Given
+        eventPublisher.publishEvent(CatalogChangeEvent.updated(CatalogChangeEvent.Entity.PLANT, "monstera"));
+
+        // When / Then: primary right after the write, replica again once the window has passed
+        assertThat(serverPort(true)).isNotEqualTo(replica.getPort());
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(serverPort(true)).isEqualTo(replica.getPort()));
+    }
+
+    @Test
+    @Order(4)
+    void readOnlyTransaction_afterSlowCommit_shouldUsePrimaryWithinWindow() {
+        // Given: a write that commits later than the window is long
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(serverPort(true)).isEqualTo(replica.getPort()));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(CatalogChangeEvent.updated(CatalogChangeEvent.Entity.PLANT, "monstera"));
+            sleep(Duration.ofMillis(1_500));
+        });
+
+        // When / Then: the window starts at the commit
+        assertThat(serverPort(true)).isNotEqualTo(replica.getPort());
+    }
+
+    @Test
+    @Order(5)
+    void readOnlyTransaction_withReplicaDown_shouldFallBackToPrimary() throws IOException {
+        // Given
+        int replicaPort = replica.getPort();
+        replica.close();
+
+        // When / Then
+        assertThat(serverPort(true)).isNotEqualTo(replicaPort);
+    }
+
+    private int serverPort(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_setting('port')::int", Integer.class));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static EmbeddedPostgres startReplica() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
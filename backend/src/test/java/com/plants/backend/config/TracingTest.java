@@ -0,0 +1,95 @@
+package com.plants.backend.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.service.PlantGroupService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the span export to a local file and the controller/service/mapper observations.
+ */
+class TracingTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private PlantGroupService plantGroupService;
+
+    @Test
+    void jsonFileSpanExporter_shouldWriteOneLinePerSpan(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = directory.resolve("traces/spans.jsonl");
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new JsonFileSpanExporter(file, objectMapper.getFactory())))
+                .build();
+        Tracer tracer = tracerProvider.get("test");
+
+        // When
+        Span parent = tracer.spanBuilder("PlantService.getPlantDetails").startSpan();
+        tracer.spanBuilder("query").setParent(Context.current().with(parent)).startSpan()
+                .setAttribute("jdbc.row-count", 3L)
+                .end();
+        parent.end();
+        tracerProvider.shutdown();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode query = objectMapper.readTree(lines.get(0));
+        JsonNode service = objectMapper.readTree(lines.get(1));
+        assertThat(query.get("name").asText()).isEqualTo("query");
+        assertThat(query.get("traceId").asText()).isEqualTo(service.get("traceId").asText());
+        assertThat(query.get("parentSpanId").asText()).isEqualTo(service.get("spanId").asText());
+        assertThat(query.get("attributes").get("jdbc.row-count").asLong()).isEqualTo(3);
+        assertThat(service.has("parentSpanId")).isFalse();
+        assertThat(service.get("durationMicros").asLong()).isNotNegative();
+    }
+
+    @Test
+    void tracingAspect_shouldObserveServiceCalls() {
+        // Given
+        Queue<String> observed = new ConcurrentLinkedQueue<>();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStart(Observation.Context context) {
+                if (context.getName().startsWith("plants.")) {
+                    observed.add(context.getContextualName());
+                }
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        // When
+        plantGroupService.getAllGroups();
+
+        // Then
+        assertThat(observed).contains("PlantGroupService.getAllGroups");
+    }
+}
@@ -7,8 +7,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -84,4 +90,74 @@ class AdminImageControllerTest extends BaseIntegrationTest {
                         .file(nonImageFile))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void getAllImages_shouldFilterByFilenameAndContentType() throws Exception {
+        // Given
+        String prefix = UUID.randomUUID().toString();
+        upload(prefix + "-leaf.jpg", "image/jpeg");
+        upload(prefix + "-LEAF.png", "image/png");
+        upload(prefix + "-root.jpg", "image/jpeg");
+
+        // When/Then
+        mockMvc.perform(get("/api/admin/images")
+                        .param("filename", prefix + "-leaf")
+                        .param("contentType", "image/jpeg"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].filename", is(prefix + "-leaf.jpg")))
+                .andExpect(jsonPath("$[0].byteSize").exists());
+
+        mockMvc.perform(get("/api/admin/images").param("filename", prefix + "-leaf"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void getAllImages_shouldMatchWildcardCharactersLiterally() throws Exception {
+        // Given
+        String prefix = UUID.randomUUID().toString();
+        upload(prefix + "-a_b%.jpg", "image/jpeg");
+        upload(prefix + "-axbx.jpg", "image/jpeg");
+
+        // When/Then
+        mockMvc.perform(get("/api/admin/images").param("filename", prefix + "-a_b%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].filename", is(prefix + "-a_b%.jpg")));
+    }
+
+    @Test
+    void getAllImages_shouldReturnRequestedPageWithTotalCount() throws Exception {
+        // Given
+        String prefix = UUID.randomUUID().toString();
+        for (int i = 0; i < 3; i++) {
+            upload(prefix + "-" + i + ".jpg", "image/jpeg");
+        }
+
+        // When/Then
+        mockMvc.perform(get("/api/admin/images")
+                        .param("filename", prefix)
+                        .param("page", "1")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getAllImages_shouldRejectOversizedPage() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/admin/images")
+                        .param("page", "0")
+                        .param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void upload(String filename, String contentType) throws Exception {
+        mockMvc.perform(multipart("/api/admin/images")
+                        .file(new MockMultipartFile("file", filename, contentType, "content".getBytes())))
+                .andExpect(status().isCreated());
+    }
 }
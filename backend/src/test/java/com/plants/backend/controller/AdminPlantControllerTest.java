@@ -144,6 +144,40 @@ class AdminPlantControllerTest extends BaseIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
+    @Test
+    void createPlant_withMissingReferences_shouldReturn400WithAllMissingIds() {
+        // Given
+        CreatePlantRequest valid = createValidRequest("missing-refs");
+        CreatePlantRequest request = new CreatePlantRequest(
+                valid.id(),
+                "non-existent-group",
+                valid.name(),
+                valid.scientificName(),
+                valid.thumbnailId(),
+                new String[]{"missing-1", "missing-2"},
+                valid.description(),
+                valid.size(),
+                valid.toxicity(),
+                valid.benefits(),
+                valid.care(),
+                valid.commonIssues()
+        );
+
+        // When
+        ResponseEntity<ErrorResponse> response = restTemplate.postForEntity(
+                "/api/admin/plants",
+                request,
+                ErrorResponse.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().validationErrors())
+                .extracting(ValidationError::field)
+                .containsExactly("groupId", "imageIds[0]", "imageIds[1]");
+    }
+
     @Test
     void getAllPlants_shouldReturnPlants() {
         CreatePlantRequest request = createValidRequest("plant-1");
@@ -219,6 +253,58 @@ class AdminPlantControllerTest extends BaseIntegrationTest {
         assertThat(response.getBody().scientificName()).isEqualTo("Testus updatus");
     }
 
+    @Test
+    void patchPlant_shouldChangeOnlySuppliedFields() {
+        // Given
+        restTemplate.postForEntity("/api/admin/plants", createValidRequest("plant-1"), PlantResponse.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/merge-patch+json"));
+        String patch = """
+                {"name": "Patched Name", "care": {"watering": "Every two weeks"}}
+                """;
+
+        // When
+        ResponseEntity<PlantResponse> response = restTemplate.exchange(
+                "/api/admin/plants/plant-1",
+                HttpMethod.PATCH,
+                new HttpEntity<>(patch, headers),
+                PlantResponse.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().name()).isEqualTo("Patched Name");
+        assertThat(response.getBody().scientificName()).isEqualTo("Testus plantus");
+        assertThat(response.getBody().care().watering()).isEqualTo("Every two weeks");
+        assertThat(response.getBody().care().light()).isNotBlank();
+        assertThat(response.getBody().imageIds()).containsExactly(image1Id, image2Id);
+        assertThat(response.getBody().commonIssues()).hasSize(2);
+    }
+
+    @Test
+    void patchPlant_withInvalidResult_shouldReturn400() {
+        // Given
+        restTemplate.postForEntity("/api/admin/plants", createValidRequest("plant-1"), PlantResponse.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/merge-patch+json"));
+
+        // When: removing a required field
+        ResponseEntity<ErrorResponse> response = restTemplate.exchange(
+                "/api/admin/plants/plant-1",
+                HttpMethod.PATCH,
+                new HttpEntity<>("{\"description\": null}", headers),
+                ErrorResponse.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().validationErrors())
+                .extracting(ValidationError::field)
+                .containsExactly("description");
+    }
+
     @Test
     void updatePlant_withInvalidId_shouldReturn404() {
         UpdatePlantRequest updateRequest = new UpdatePlantRequest(
@@ -124,6 +124,50 @@ class AdminPlantGroupControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.name", is("Desert Plants")));
     }
 
+    @Test
+    void patchGroup_shouldChangeOnlySuppliedFields() throws Exception {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest(
+                "succulents", "Succulents & Cacti", testImageId));
+
+        // When/Then
+        mockMvc.perform(patch("/api/admin/plant-groups/succulents")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\": \"Desert Plants\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Desert Plants")))
+                .andExpect(jsonPath("$.imageId", is(testImageId)));
+    }
+
+    @Test
+    void patchGroup_withNullMember_shouldRemoveIt() throws Exception {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest(
+                "succulents", "Succulents & Cacti", testImageId));
+
+        // When/Then
+        mockMvc.perform(patch("/api/admin/plant-groups/succulents")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"imageId\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Succulents & Cacti")))
+                .andExpect(jsonPath("$.imageId", nullValue()));
+    }
+
+    @Test
+    void patchGroup_shouldReturn400WhenResultIsInvalid() throws Exception {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest(
+                "succulents", "Succulents & Cacti", testImageId));
+
+        // When/Then
+        mockMvc.perform(patch("/api/admin/plant-groups/succulents")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\": null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[0].field", is("name")));
+    }
+
     @Test
     void updateGroup_shouldReturn404ForNonExistent() throws Exception {
         // Given
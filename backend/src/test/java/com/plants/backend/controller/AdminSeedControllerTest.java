@@ -8,16 +8,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 /**
  * Integration tests for AdminSeedController.
- * Tests seed and reset endpoints.
+ * Tests seed and reset jobs and their progress endpoint.
  */
 class AdminSeedControllerTest extends BaseIntegrationTest {
 
@@ -42,7 +45,7 @@ class AdminSeedControllerTest extends BaseIntegrationTest {
     }
 
     @Test
-    void postSeed_shouldReturn200AndPopulateDatabase() {
+    void postSeed_shouldReturn202AndPopulateDatabaseInBackground() {
         // When
         ResponseEntity<Map> response = restTemplate.postForEntity(
             "/api/admin/seed",
@@ -51,9 +54,14 @@ class AdminSeedControllerTest extends BaseIntegrationTest {
         );
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().get("message")).isEqualTo("Database seeded successfully");
+        assertThat(response.getBody().get("type")).isEqualTo("SEED");
+        assertThat(response.getHeaders().getLocation())
+                .hasToString("/api/admin/seed-jobs/" + response.getBody().get("id"));
+
+        Map<?, ?> job = awaitFinished(response);
+        assertThat(job.get("status")).isEqualTo("SUCCEEDED");
 
         // Verify database was populated
         assertThat(imageRepository.count()).isGreaterThan(0);
@@ -62,9 +70,27 @@ class AdminSeedControllerTest extends BaseIntegrationTest {
     }
 
     @Test
-    void postReset_shouldReturn200AndRepopulateDatabase() {
+    void getSeedJob_afterCompletion_shouldReportFullProgress() {
+        // Given
+        ResponseEntity<Map> started = restTemplate.postForEntity("/api/admin/seed", null, Map.class);
+
+        // When
+        Map<?, ?> job = awaitFinished(started);
+
+        // Then
+        assertThat(job.get("phase")).isEqualTo("DONE");
+        assertThat(job.get("itemsTotal")).isEqualTo(6 + 4);
+        assertThat(job.get("itemsDone")).isEqualTo(job.get("itemsTotal"));
+        assertThat(((Number) job.get("elapsedMillis")).longValue()).isPositive();
+        assertThat(((Number) job.get("itemsPerSecond")).doubleValue()).isPositive();
+        assertThat(job.get("finishedAt")).isNotNull();
+        assertThat(job).doesNotContainKey("error");
+    }
+
+    @Test
+    void postReset_shouldReturn202AndRepopulateDatabase() {
         // Given - seed database first
-        restTemplate.postForEntity("/api/admin/seed", null, Map.class);
+        awaitFinished(restTemplate.postForEntity("/api/admin/seed", null, Map.class));
 
         // Verify data exists
         assertThat(plantRepository.count()).isGreaterThan(0);
@@ -77,9 +103,10 @@ class AdminSeedControllerTest extends BaseIntegrationTest {
         );
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().get("message")).isEqualTo("Database reset and seeded successfully");
+        assertThat(response.getBody().get("type")).isEqualTo("RESET");
+        assertThat(awaitFinished(response).get("status")).isEqualTo("SUCCEEDED");
 
         // Verify database still has data (cleared and re-seeded)
         assertThat(imageRepository.count()).isGreaterThan(0);
@@ -87,51 +114,90 @@ class AdminSeedControllerTest extends BaseIntegrationTest {
         assertThat(plantRepository.count()).isEqualTo(4);
     }
 
-    @Test
-    void postSeed_shouldReturnSuccessMessage() {
-        // When
-        ResponseEntity<Map> response = restTemplate.postForEntity(
-            "/api/admin/seed",
-            null,
-            Map.class
-        );
-
-        // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).containsKey("message");
-        assertThat(response.getBody().get("message")).isNotNull();
-    }
-
     @Test
     void postSeed_canBeCalledMultipleTimes() {
         // First seed
-        ResponseEntity<Map> response1 = restTemplate.postForEntity(
-            "/api/admin/seed",
-            null,
-            Map.class
-        );
-        assertThat(response1.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(awaitFinished(restTemplate.postForEntity("/api/admin/seed", null, Map.class))
+                .get("status")).isEqualTo("SUCCEEDED");
 
         long firstImageCount = imageRepository.count();
         long firstGroupCount = plantGroupRepository.count();
         long firstPlantCount = plantRepository.count();
 
         // Second seed (should add more data or handle duplicates gracefully)
-        ResponseEntity<Map> response2 = restTemplate.postForEntity(
-            "/api/admin/seed",
-            null,
-            Map.class
-        );
-        assertThat(response2.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(awaitFinished(restTemplate.postForEntity("/api/admin/seed", null, Map.class))
+                .get("status")).isEqualTo("SUCCEEDED");
 
         // Note: Second seed will create duplicate entries (no unique constraints besides IDs)
         // This is acceptable behavior for a seed endpoint
-        long secondImageCount = imageRepository.count();
-        long secondGroupCount = plantGroupRepository.count();
-        long secondPlantCount = plantRepository.count();
+        assertThat(imageRepository.count()).isGreaterThanOrEqualTo(firstImageCount);
+        assertThat(plantGroupRepository.count()).isGreaterThanOrEqualTo(firstGroupCount);
+        assertThat(plantRepository.count()).isGreaterThanOrEqualTo(firstPlantCount);
+    }
+
+    @Test
+    void deleteSeedJob_shouldRequestCancellation() {
+        // Given
+        ResponseEntity<Map> started = restTemplate.postForEntity("/api/admin/seed", null, Map.class);
+
+        // When
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "/api/admin/seed-jobs/" + started.getBody().get("id"),
+                HttpMethod.DELETE,
+                null,
+                Map.class
+        );
+
+        // Then: cancelled before its next chunk, unless it had already finished
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().get("cancelRequested")).isEqualTo(true);
+        assertThat(awaitFinished(started).get("status")).isIn("CANCELLED", "SUCCEEDED");
+    }
+
+    @Test
+    void postGenerate_shouldReturn202AndAddSyntheticCatalog() {
+        // Given
+        Map<String, Object> request = Map.of(
+                "groups", 4, "plants", 25, "images", 5, "imageWidth", 40, "imageHeight", 30, "randomSeed", 3);
+
+        // When
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/admin/generate", request, Map.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().get("type")).isEqualTo("GENERATE");
+        assertThat(awaitFinished(response).get("status")).isEqualTo("SUCCEEDED");
+        assertThat(plantGroupRepository.count()).isEqualTo(4);
+        assertThat(plantRepository.count()).isEqualTo(25);
+    }
+
+    @Test
+    void postGenerate_withSizeOutOfRange_shouldReturn400() {
+        // Given
+        Map<String, Object> request = Map.of(
+                "groups", 4, "plants", 25, "images", 5, "imageWidth", 40, "imageHeight", 0);
+
+        // When
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/admin/generate", request, Map.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().get("message")).asString().contains("imageHeight");
+    }
+
+    @Test
+    void getSeedJob_withUnknownId_shouldReturn404() {
+        // When
+        ResponseEntity<Map> response = restTemplate.getForEntity("/api/admin/seed-jobs/unknown", Map.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
 
-        assertThat(secondImageCount).isGreaterThanOrEqualTo(firstImageCount);
-        assertThat(secondGroupCount).isGreaterThanOrEqualTo(firstGroupCount);
-        assertThat(secondPlantCount).isGreaterThanOrEqualTo(firstPlantCount);
+    private Map<?, ?> awaitFinished(ResponseEntity<Map> started) {
+        String location = started.getHeaders().getLocation().toString();
+        return await().atMost(Duration.ofSeconds(60)).pollInterval(Duration.ofMillis(100))
+                .until(() -> restTemplate.getForObject(location, Map.class),
+                        job -> !"RUNNING".equals(job.get("status")));
     }
 }
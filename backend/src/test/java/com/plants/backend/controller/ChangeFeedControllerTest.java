@@ -0,0 +1,153 @@
+package com.plants.backend.controller;
+
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.dto.CreatePlantGroupRequest;
+import com.plants.backend.repository.PlantGroupRepository;
+import com.plants.backend.service.ChangeFeed;
+import com.plants.backend.service.PlantGroupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@AutoConfigureMockMvc
+class ChangeFeedControllerTest extends BaseIntegrationTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private PlantGroupService plantGroupService;
+
+    @Autowired
+    private PlantGroupRepository plantGroupRepository;
+
+    @BeforeEach
+    void setUp() {
+        plantGroupRepository.deleteAll();
+    }
+
+    @Test
+    void streamChanges_withoutLastEventId_shouldSendCurrentPosition() throws Exception {
+        // When
+        String content = openStream(null);
+
+        // Then
+        assertThat(content).contains("event:ready");
+        assertThat(lastEventId(content)).isNotBlank();
+    }
+
+    @Test
+    void streamChanges_withLastEventId_shouldReplayMissedChanges() throws Exception {
+        // Given: a client that saw the feed up to now, then missed two writes
+        String position = lastEventId(openStream(null));
+        plantGroupService.createGroup(new CreatePlantGroupRequest("ferns", "Ferns", null));
+        plantGroupService.deleteGroup("ferns");
+
+        // When
+        String content = openStream(position);
+
+        // Then
+        assertThat(content).containsSubsequence(
+                "event:change", "\"entity\":\"GROUP\"", "\"id\":\"ferns\"", "\"type\":\"CREATED\"",
+                "event:change", "\"entity\":\"GROUP\"", "\"id\":\"ferns\"", "\"type\":\"DELETED\"");
+        assertThat(content).doesNotContain("event:reset");
+    }
+
+    @Test
+    void streamChanges_eventIds_shouldBeVersionsFromSharedSequence() throws Exception {
+        // Given
+        String position = lastEventId(openStream(null));
+
+        // When
+        plantGroupService.createGroup(new CreatePlantGroupRequest("ferns", "Ferns", null));
+
+        // Then: any replica can resume from this id
+        String content = openStream(position);
+        assertThat(lastEventId(content)).isEqualTo(String.valueOf(changeFeed.currentVersion()));
+    }
+
+    @Test
+    void streamChanges_withUnknownLastEventId_shouldSendReset() throws Exception {
+        // When: an id that is not a version
+        String content = openStream("deadbeef-42");
+
+        // Then
+        assertThat(content).contains("event:reset");
+    }
+
+    @Test
+    void streamChanges_withLastEventIdAheadOfSequence_shouldSendReset() throws Exception {
+        // When: an id from before the database was recreated
+        String content = openStream(String.valueOf(changeFeed.currentVersion() + 1_000));
+
+        // Then
+        assertThat(content).contains("event:reset");
+    }
+
+    @Test
+    void streamChanges_shouldPushLiveChangesToOpenStreams() throws Exception {
+        // Given
+        MvcResult stream = mockMvc.perform(get("/api/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        plantGroupService.createGroup(new CreatePlantGroupRequest("palms", "Palms", null));
+
+        // Then: sent by the stream's own sender thread after the commit returned
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(stream.getResponse().getContentAsString())
+                        .containsSubsequence("event:ready", "event:change", "\"id\":\"palms\"", "\"type\":\"CREATED\""));
+    }
+
+    @Test
+    void rejectedWrite_shouldNotBePublished() {
+        // Given
+        long before = changeFeed.lastVersion();
+
+        // When: the write is rejected because the image does not exist
+        assertThatThrownBy(() -> plantGroupService.createGroup(
+                new CreatePlantGroupRequest("cacti", "Cacti", "non-existent-image")));
+
+        // Then
+        assertThat(changeFeed.lastVersion()).isEqualTo(before);
+    }
+
+    private String openStream(String lastEventId) throws Exception {
+        var requestBuilder = get("/api/changes");
+        if (lastEventId != null) {
+            requestBuilder.header("Last-Event-ID", lastEventId);
+        }
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse().getContentAsString();
+    }
+
+    private String lastEventId(String content) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        String id = null;
+        while (matcher.find()) {
+            id = matcher.group(1);
+        }
+        return id;
+    }
+}
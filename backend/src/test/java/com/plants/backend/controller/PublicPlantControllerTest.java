@@ -1,31 +1,55 @@
 package com.plants.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.config.MessageConverterConfiguration;
 import com.plants.backend.dto.*;
 import com.plants.backend.entity.PlantGroup;
 import com.plants.backend.repository.ImageRepository;
 import com.plants.backend.repository.PlantGroupRepository;
 import com.plants.backend.repository.PlantRepository;
 import com.plants.backend.service.ImageService;
+import com.plants.backend.service.PlantGroupService;
 import com.plants.backend.service.PlantService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class PublicPlantControllerTest extends BaseIntegrationTest {
 
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private PlantService plantService;
 
@@ -41,8 +65,12 @@ class PublicPlantControllerTest extends BaseIntegrationTest {
     @Autowired
     private ImageService imageService;
 
+    @Autowired
+    private PlantGroupService plantGroupService;
+
     private String groupId;
     private String plantId;
+    private String imageId;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -52,7 +80,7 @@ class PublicPlantControllerTest extends BaseIntegrationTest {
 
         // Create test images
         String thumbnailId = createTestImage("thumbnail.jpg");
-        String image1Id = createTestImage("image1.jpg");
+        imageId = createTestImage("image1.jpg");
 
         // Create test plant group
         groupId = "test-group";
@@ -70,10 +98,10 @@ class PublicPlantControllerTest extends BaseIntegrationTest {
                 "Test Plant",
                 "Testus plantus",
                 thumbnailId,
-                new String[]{image1Id},
+                new String[]{imageId},
                 "Description",
                 "Small",
-                "Non-toxic",
+                "Non-toxic to pets",
                 new String[]{"Benefit 1", "Benefit 2", "Benefit 3", "Benefit 4"},
                 new CareGuideDto("Water", "Light", "Temp", "Humidity", "Soil", "Fertilize"),
                 Arrays.asList(
@@ -110,6 +138,122 @@ class PublicPlantControllerTest extends BaseIntegrationTest {
         assertThat(response.getBody().commonIssues()).hasSize(2);
     }
 
+    @Test
+    void getPlantById_shouldWriteSameJsonAsPlantResponse() throws Exception {
+        // Given: the detail as the DTO path would serialize it
+        String expected = new ObjectMapper().writeValueAsString(plantService.getPlantById(plantId));
+
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/plants/" + plantId, String.class);
+
+        // Then: same fields, order and nulls
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+
+    @Test
+    void plantSummary_shouldWriteSameJsonAsRecord() throws Exception {
+        // Given
+        PlantSummaryResponse summary = new PlantSummaryResponse(
+                "id", "Name", null, "thumb", "data:image/jpeg;base64,AAAA", "#112233");
+
+        // When
+        String written = objectMapper.writeValueAsString(summary);
+
+        // Then
+        assertThat(written).isEqualTo(new ObjectMapper().writeValueAsString(summary));
+    }
+
+    @Test
+    void searchPlants_withFacet_shouldReturnMatchesAndCounts() {
+        // When
+        ResponseEntity<PlantFacetSearchResponse> response = restTemplate.getForEntity(
+                "/api/plants?facet=toxicity:pet-safe&facet=group:" + groupId,
+                PlantFacetSearchResponse.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().plantIds()).contains(plantId);
+        assertThat(response.getBody().facets()).containsKeys("group", "toxicity", "size", "benefit");
+    }
+
+    @Test
+    void searchPlants_withMalformedFacet_shouldReturn400() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/plants?facet=toxicity", String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void suggestPlants_shouldReturnPlantsByNamePrefix() {
+        // When
+        ResponseEntity<PlantSuggestionResponse[]> response = restTemplate.getForEntity(
+                "/api/plants/suggest?prefix=tEsT&limit=5",
+                PlantSuggestionResponse[].class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(PlantSuggestionResponse::id).contains(plantId);
+    }
+
+    @Test
+    void getPlantById_concurrentRequests_shouldShareLoadOutsideRequestEntityManager() throws Exception {
+        // Given: no request keeps an entity manager open that a shared load could join
+        assertThat(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+
+        try {
+            // When
+            List<Future<ResponseEntity<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(executor.submit(() -> restTemplate.getForEntity("/api/plants/" + plantId, String.class)));
+            }
+
+            // Then
+            String expected = restTemplate.getForEntity("/api/plants/" + plantId, String.class).getBody();
+            for (Future<ResponseEntity<String>> response : responses) {
+                ResponseEntity<String> result = response.get(10, TimeUnit.SECONDS);
+                assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(result.getBody()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getPlantById_afterGroupDeleted_shouldReturn404() {
+        // Given: the plant is in the second-level cache
+        assertThat(restTemplate.getForEntity("/api/plants/" + plantId, String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        // When: the database cascades the group delete to the plant
+        plantGroupService.deleteGroup(groupId);
+
+        // Then
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/plants/" + plantId, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getPlantById_afterImageDeleted_shouldLoadWithoutIt() {
+        // Given: the plant and its image collection are in the second-level cache
+        assertThat(restTemplate.getForEntity("/api/plants/" + plantId, PlantResponse.class).getBody().images())
+                .hasSize(1);
+
+        // When: the database cascades the image delete to the plant's image links
+        imageService.deleteImage(imageId);
+
+        // Then
+        ResponseEntity<PlantResponse> response = restTemplate.getForEntity("/api/plants/" + plantId, PlantResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().images()).isEmpty();
+    }
+
     @Test
     void getPlantById_withInvalidId_shouldReturn404() {
         ResponseEntity<String> response = restTemplate.getForEntity(
@@ -159,4 +303,46 @@ class PublicPlantControllerTest extends BaseIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEmpty();
     }
+
+    @Test
+    void getPlantById_withCborAccept_shouldReturnCbor() throws Exception {
+        // When
+        ResponseEntity<byte[]> response = getBinary("/api/plants/" + plantId, MediaType.APPLICATION_CBOR);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        PlantResponse plant = new CBORMapper().readValue(response.getBody(), PlantResponse.class);
+        assertThat(plant.id()).isEqualTo(plantId);
+        assertThat(plant.care()).isNotNull();
+        assertThat(plant.commonIssues()).hasSize(2);
+    }
+
+    @Test
+    void getPlantsByGroup_withSmileAccept_shouldReturnSmile() throws Exception {
+        // When
+        ResponseEntity<byte[]> response = getBinary(
+                "/api/plant-groups/" + groupId + "/plants", MessageConverterConfiguration.APPLICATION_SMILE);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MessageConverterConfiguration.APPLICATION_SMILE);
+        PlantSummaryResponse[] plants = new SmileMapper().readValue(response.getBody(), PlantSummaryResponse[].class);
+        assertThat(plants).extracting(PlantSummaryResponse::id).containsExactly(plantId);
+    }
+
+    @Test
+    void getPlantById_withAnyAccept_shouldDefaultToJson() {
+        // When
+        ResponseEntity<byte[]> response = getBinary("/api/plants/" + plantId, MediaType.ALL);
+
+        // Then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    private ResponseEntity<byte[]> getBinary(String url, MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(accept));
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
 }
@@ -1,11 +1,15 @@
 package com.plants.backend.controller;
 
 import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.dto.CareGuideDto;
 import com.plants.backend.dto.CreatePlantGroupRequest;
+import com.plants.backend.dto.CreatePlantRequest;
+import com.plants.backend.dto.IssueDto;
 import com.plants.backend.entity.Image;
 import com.plants.backend.repository.ImageRepository;
 import com.plants.backend.repository.PlantGroupRepository;
 import com.plants.backend.service.PlantGroupService;
+import com.plants.backend.service.PlantService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -29,6 +34,9 @@ class PublicPlantGroupControllerTest extends BaseIntegrationTest {
     @Autowired
     private PlantGroupService plantGroupService;
 
+    @Autowired
+    private PlantService plantService;
+
     @Autowired
     private PlantGroupRepository plantGroupRepository;
 
@@ -96,4 +104,86 @@ class PublicPlantGroupControllerTest extends BaseIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getGroup_withIncludePlants_shouldReturnGroupWithPlants() throws Exception {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest(
+                "succulents", "Succulents & Cacti", testImageId));
+        createPlant("haworthia", "succulents", "Haworthia");
+        createPlant("aloe", "succulents", "Aloe Vera");
+
+        // When/Then
+        mockMvc.perform(get("/api/plant-groups/succulents").param("include", "plants"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is("succulents")))
+                .andExpect(jsonPath("$.name", is("Succulents & Cacti")))
+                .andExpect(jsonPath("$.imageId", is(testImageId)))
+                .andExpect(jsonPath("$.plants", hasSize(2)))
+                .andExpect(jsonPath("$.plants[0].id", is("aloe")))
+                .andExpect(jsonPath("$.plants[1].id", is("haworthia")));
+    }
+
+    @Test
+    void getGroup_withoutInclude_shouldReturnGroupOnly() throws Exception {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest(
+                "succulents", "Succulents & Cacti", testImageId));
+
+        // When/Then
+        mockMvc.perform(get("/api/plant-groups/succulents"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is("succulents")))
+                .andExpect(jsonPath("$.plants").doesNotExist());
+    }
+
+    @Test
+    void getGroup_withIncludePlants_shouldReturnEmptyPlantsForEmptyGroupAnd404ForMissingGroup() throws Exception {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest(
+                "succulents", "Succulents & Cacti", testImageId));
+
+        // When/Then
+        mockMvc.perform(get("/api/plant-groups/succulents").param("include", "plants"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plants", hasSize(0)));
+        mockMvc.perform(get("/api/plant-groups/non-existent").param("include", "plants"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    void getAllGroups_withIncludePlants_shouldReturnFirstPlantsOfEachGroup() throws Exception {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest(
+                "succulents", "Succulents & Cacti", testImageId));
+        createPlant("haworthia", "succulents", "Haworthia");
+        createPlant("aloe", "succulents", "Aloe Vera");
+
+        // When/Then
+        mockMvc.perform(get("/api/plant-groups").param("include", "plants").param("plantLimit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].plants", hasSize(1)))
+                .andExpect(jsonPath("$[0].plants[0].id", is("aloe")));
+        mockMvc.perform(get("/api/plant-groups").param("include", "plants").param("plantLimit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void createPlant(String id, String groupId, String name) {
+        plantService.createPlant(new CreatePlantRequest(
+                id,
+                groupId,
+                name,
+                name + " scientificus",
+                testImageId,
+                new String[]{testImageId},
+                "Description",
+                "Small",
+                "Non-toxic",
+                new String[]{"Benefit 1", "Benefit 2", "Benefit 3", "Benefit 4"},
+                new CareGuideDto("Water", "Light", "Temp", "Humidity", "Soil", "Fertilize"),
+                List.of(new IssueDto("Issue 1", "Solution 1"), new IssueDto("Issue 2", "Solution 2"))
+        ));
+    }
+}
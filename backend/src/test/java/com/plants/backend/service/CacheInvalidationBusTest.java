@@ -0,0 +1,124 @@
+package com.plants.backend.service;
+
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.repository.PlantGroupRepository;
+import com.plants.backend.repository.PlantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class CacheInvalidationBusTest extends BaseIntegrationTest {
+
+    private static final String CHANNEL = "catalog_changes";
+
+    @Autowired
+    private PlantGroupRepository plantGroupRepository;
+
+    @Autowired
+    private PlantRepository plantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        plantGroupRepository.deleteAll();
+        PlantGroup group = new PlantGroup();
+        group.setId("ferns");
+        group.setName("Ferns");
+        plantGroupRepository.save(group);
+        waitForListener();
+    }
+
+    @Test
+    void remoteChange_shouldEvictCachedEntityAndReachChangeFeed() {
+        // Given: a cached group that another replica then changes
+        assertThat(plantGroupRepository.findById("ferns")).get()
+                .extracting(PlantGroup::getName).isEqualTo("Ferns");
+        jdbcTemplate.update("UPDATE plant_groups SET name = 'Remote Ferns' WHERE id = 'ferns'");
+        long versionBefore = changeFeed.lastVersion();
+
+        // When
+        notify("{\"origin\":\"other-replica\",\"entity\":\"GROUP\",\"id\":\"ferns\",\"type\":\"UPDATED\"}");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(plantGroupRepository.findById("ferns")).get()
+                        .extracting(PlantGroup::getName).isEqualTo("Remote Ferns"));
+        assertThat(changeFeed.lastVersion()).isGreaterThan(versionBefore);
+    }
+
+    @Test
+    void remoteChange_shouldBeRecordedUnderItsOriginatingVersion() {
+        // Given: a version taken by another replica's writing transaction
+        long version = changeFeed.nextVersion();
+
+        // When
+        notify("{\"origin\":\"other-replica\",\"entity\":\"GROUP\",\"id\":\"ferns\",\"type\":\"UPDATED\","
+                + "\"version\":" + version + "}");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(changeFeed.lastVersion()).isEqualTo(version));
+    }
+
+    @Test
+    void remoteGroupDelete_shouldEvictPlantsDeletedByCascade() {
+        // Given: a cached plant whose group another replica then deletes
+        Plant plant = new Plant();
+        plant.setId("boston-fern");
+        plant.setGroupId("ferns");
+        plant.setName("Boston Fern");
+        plantRepository.save(plant);
+        assertThat(plantRepository.findById("boston-fern")).isPresent();
+        jdbcTemplate.update("DELETE FROM plant_groups WHERE id = 'ferns'");
+
+        // When
+        notify("{\"origin\":\"other-replica\",\"entity\":\"GROUP\",\"id\":\"ferns\",\"type\":\"DELETED\"}");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(plantRepository.findById("boston-fern")).isEmpty());
+    }
+
+    @Test
+    void lostListenerConnection_shouldReconnectAndFlushCaches() {
+        // Given: a cached group changed behind the cache's back
+        plantGroupRepository.findById("ferns");
+        jdbcTemplate.update("UPDATE plant_groups SET name = 'Changed While Offline' WHERE id = 'ferns'");
+
+        // When: the listener connection is killed, so notifications may have been missed
+        jdbcTemplate.queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                CacheInvalidationBus.APPLICATION_NAME);
+
+        // Then: the listener comes back and flushes everything
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(plantGroupRepository.findById("ferns")).get()
+                        .extracting(PlantGroup::getName).isEqualTo("Changed While Offline"));
+        waitForListener();
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> {
+        }, CHANNEL, payload);
+    }
+
+    private void waitForListener() {
+        await().atMost(Duration.ofSeconds(5)).until(() -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE application_name = ?",
+                Long.class, CacheInvalidationBus.APPLICATION_NAME) > 0);
+    }
+}
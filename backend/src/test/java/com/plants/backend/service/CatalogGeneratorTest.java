@@ -0,0 +1,105 @@
+package com.plants.backend.service;
+
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.dto.CatalogGenerationRequest;
+import com.plants.backend.dto.PlantResponse;
+import com.plants.backend.entity.Image;
+import com.plants.backend.entity.Plant;
+import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.repository.ImageRepository;
+import com.plants.backend.repository.PlantGroupRepository;
+import com.plants.backend.repository.PlantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for CatalogGenerator.
+ */
+class CatalogGeneratorTest extends BaseIntegrationTest {
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private PlantService plantService;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private PlantGroupRepository plantGroupRepository;
+
+    @Autowired
+    private PlantRepository plantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        plantRepository.deleteAll();
+        plantGroupRepository.deleteAll();
+        imageRepository.deleteAll();
+    }
+
+    @Test
+    void generate_shouldWriteCatalogOfRequestedSize() {
+        // Given
+        SeedProgress progress = new SeedProgress();
+
+        // When
+        catalogGenerator.generate(new CatalogGenerationRequest(3, 40, 6, 64, 48, 1L), progress);
+
+        // Then
+        assertThat(plantGroupRepository.count()).isEqualTo(3);
+        assertThat(plantRepository.count()).isEqualTo(40);
+        assertThat(progress.getPhase()).isEqualTo(SeedProgress.Phase.DONE);
+        assertThat(progress.getItemsDone()).isEqualTo(43);
+
+        List<Image> images = imageRepository.findAll();
+        assertThat(images).hasSize(6).allSatisfy(image -> {
+            assertThat(image.getWidth()).isEqualTo(64);
+            assertThat(image.getHeight()).isEqualTo(48);
+            assertThat(image.getPlaceholder()).startsWith("data:image/jpeg");
+        });
+    }
+
+    @Test
+    void generate_shouldLinkOneToThreeImagesPerPlantAndSetGroupCounts() {
+        // When
+        catalogGenerator.generate(new CatalogGenerationRequest(2, 30, 5, 32, 32, 7L), new SeedProgress());
+
+        // Then
+        List<Integer> imagesPerPlant = jdbcTemplate.queryForList(
+                "SELECT count(*)::int FROM plant_images GROUP BY plant_id", Integer.class);
+        assertThat(imagesPerPlant).hasSize(30).allSatisfy(count -> assertThat(count).isBetween(1, 3));
+        assertThat(plantGroupRepository.findAll()).extracting(PlantGroup::getPlantCount)
+                .containsExactlyInAnyOrderElementsOf(plantGroupRepository.findAll().stream()
+                        .map(group -> plantRepository.findByGroupId(group.getId()).size())
+                        .toList());
+
+        // Generated plants read like any other
+        Plant plant = plantRepository.findAll().getFirst();
+        PlantResponse response = plantService.getPlantById(plant.getId());
+        assertThat(response.thumbnail()).isNotNull();
+        assertThat(response.imageIds()).isNotEmpty();
+        assertThat(response.description()).isNotBlank();
+    }
+
+    @Test
+    void generate_withSizeOutOfRange_shouldFailWithoutWriting() {
+        // When / Then
+        assertThatThrownBy(() -> catalogGenerator.generate(
+                new CatalogGenerationRequest(0, 10, 5, 32, 32, null), new SeedProgress()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("groups");
+        assertThat(imageRepository.count()).isZero();
+    }
+}
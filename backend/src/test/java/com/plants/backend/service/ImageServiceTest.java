@@ -4,18 +4,52 @@ import com.plants.backend.BaseIntegrationTest;
 import com.plants.backend.dto.ImageResponse;
 import com.plants.backend.entity.Image;
 import com.plants.backend.exception.ResourceNotFoundException;
+import com.plants.backend.repository.ImageRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 class ImageServiceTest extends BaseIntegrationTest {
 
     @Autowired
     private ImageService imageService;
 
+    @Autowired
+    private ImageMetadataBackfill imageMetadataBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Test
     void uploadImage_shouldSaveAndReturnImageResponse() {
         // Given
@@ -61,6 +95,127 @@ class ImageServiceTest extends BaseIntegrationTest {
         assertThat(retrievedImage.getBytes()).isEqualTo(imageData);
     }
 
+    @Test
+    void uploadImage_shouldComputePlaceholderForDecodableImage() throws IOException {
+        // Given
+        Color green = new Color(0x22, 0x88, 0x44);
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "green.png",
+                "image/png",
+                solidColorPng(400, 200, green)
+        );
+
+        // When
+        ImageResponse uploadedImage = imageService.uploadImage(file);
+
+        // Then
+        assertThat(uploadedImage.width()).isEqualTo(400);
+        assertThat(uploadedImage.height()).isEqualTo(200);
+        assertThat(uploadedImage.byteSize()).isPositive();
+        Image retrievedImage = imageService.getImageById(uploadedImage.id());
+        assertThat(retrievedImage.getPlaceholder()).startsWith("data:image/jpeg;base64,");
+        assertThat(retrievedImage.getDominantColor()).matches("#[0-9a-f]{6}");
+        // The color is averaged from the JPEG placeholder, so allow for re-encoding drift
+        Color dominant = Color.decode(retrievedImage.getDominantColor());
+        assertThat(dominant.getRed()).isCloseTo(green.getRed(), within(4));
+        assertThat(dominant.getGreen()).isCloseTo(green.getGreen(), within(4));
+        assertThat(dominant.getBlue()).isCloseTo(green.getBlue(), within(4));
+    }
+
+    @Test
+    void uploadImage_shouldApplyExifOrientationAndStripMetadata() throws IOException {
+        // Given: a landscape JPEG tagged "rotate 90° clockwise" with a bulky EXIF block
+        byte[] original = jpegWithExifOrientation(400, 200, 6, 30_000);
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "rotated.jpg",
+                "image/jpeg",
+                original
+        );
+
+        // When
+        ImageResponse uploadedImage = imageService.uploadImage(file);
+
+        // Then
+        Image retrievedImage = imageService.getImageById(uploadedImage.id());
+        BufferedImage stored = ImageIO.read(new ByteArrayInputStream(retrievedImage.getBytes()));
+        assertThat(stored.getWidth()).isEqualTo(200);
+        assertThat(stored.getHeight()).isEqualTo(400);
+        assertThat(retrievedImage.getOriginalSize()).isEqualTo((long) original.length);
+        assertThat(retrievedImage.getOptimizedSize()).isEqualTo((long) retrievedImage.getBytes().length);
+        assertThat(retrievedImage.getOptimizedSize()).isLessThan(retrievedImage.getOriginalSize());
+    }
+
+    @Test
+    void uploadImage_shouldSkipPlaceholderForUndecodableImage() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "broken.jpg",
+                "image/jpeg",
+                "not really a jpeg".getBytes()
+        );
+
+        // When
+        ImageResponse uploadedImage = imageService.uploadImage(file);
+
+        // Then
+        assertThat(uploadedImage.width()).isNull();
+        assertThat(uploadedImage.height()).isNull();
+        assertThat(uploadedImage.byteSize()).isEqualTo((long) "not really a jpeg".length());
+        Image retrievedImage = imageService.getImageById(uploadedImage.id());
+        assertThat(retrievedImage.getPlaceholder()).isNull();
+        assertThat(retrievedImage.getDominantColor()).isNull();
+    }
+
+    @Test
+    void backfill_shouldFillMetadataForImagesStoredWithoutIt() throws IOException {
+        // Given: an image whose metadata columns predate the migration
+        ImageResponse uploadedImage = imageService.uploadImage(new MockMultipartFile(
+                "file",
+                "legacy.png",
+                "image/png",
+                solidColorPng(120, 80, Color.ORANGE)
+        ));
+        jdbcTemplate.update("UPDATE images SET byte_size = NULL, width = NULL, height = NULL WHERE id = ?",
+                uploadedImage.id());
+
+        // When
+        imageMetadataBackfill.backfill();
+
+        // Then
+        Image retrievedImage = imageService.getImageById(uploadedImage.id());
+        assertThat(retrievedImage.getWidth()).isEqualTo(120);
+        assertThat(retrievedImage.getHeight()).isEqualTo(80);
+        assertThat(retrievedImage.getByteSize()).isEqualTo((long) retrievedImage.getBytes().length);
+    }
+
+    @Test
+    void findById_shouldNotLoadLazyBytesUntilAccessed() {
+        // Given
+        ImageResponse uploadedImage = imageService.uploadImage(new MockMultipartFile(
+                "file",
+                "lazy.jpg",
+                "image/jpeg",
+                "test-image-content".getBytes()
+        ));
+        PersistenceUnitUtil persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // When: loading the image for its metadata
+            Image image = imageRepository.findById(uploadedImage.id()).orElseThrow();
+
+            // Then: the bytea column has not been read
+            assertThat(image.getFilename()).isEqualTo("lazy.jpg");
+            assertThat(persistenceUnitUtil.isLoaded(image, "bytes")).isFalse();
+
+            // And it is loaded on first access
+            assertThat(image.getBytes()).isEqualTo("test-image-content".getBytes());
+            assertThat(persistenceUnitUtil.isLoaded(image, "bytes")).isTrue();
+        });
+    }
+
     @Test
     void getImageById_shouldThrowExceptionWhenNotFound() {
         // When/Then
@@ -128,4 +283,67 @@ class ImageServiceTest extends BaseIntegrationTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("File must be an image");
     }
+
+    private byte[] solidColorPng(int width, int height, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private byte[] jpegWithExifOrientation(int width, int height, int orientation, int paddingBytes) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, width / 2, height);
+        g.setColor(Color.BLUE);
+        g.fillRect(width / 2, 0, width - width / 2, height);
+        g.dispose();
+
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(jpeg)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(1.0f);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        byte[] jpegBytes = jpeg.toByteArray();
+
+        // APP1 payload: Exif header + big-endian TIFF with a single IFD0 orientation entry
+        ByteArrayOutputStream app1 = new ByteArrayOutputStream();
+        DataOutputStream exif = new DataOutputStream(app1);
+        exif.writeBytes("Exif");
+        exif.writeShort(0);
+        exif.writeBytes("MM");
+        exif.writeShort(42);
+        exif.writeInt(8);
+        exif.writeShort(1);
+        exif.writeShort(0x0112);
+        exif.writeShort(3);
+        exif.writeInt(1);
+        exif.writeShort(orientation);
+        exif.writeShort(0);
+        exif.writeInt(0);
+        exif.write(new byte[paddingBytes]);
+        byte[] payload = app1.toByteArray();
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        result.write(jpegBytes, 0, 2);
+        result.write(0xFF);
+        result.write(0xE1);
+        result.write((payload.length + 2) >> 8);
+        result.write((payload.length + 2) & 0xFF);
+        result.write(payload);
+        result.write(jpegBytes, 2, jpegBytes.length - 2);
+        return result.toByteArray();
+    }
 }
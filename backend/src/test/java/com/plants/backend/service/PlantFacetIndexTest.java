@@ -0,0 +1,167 @@
+package com.plants.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.dto.CareGuideDto;
+import com.plants.backend.dto.CreatePlantRequest;
+import com.plants.backend.dto.PlantFacetSearchResponse;
+import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.repository.ImageRepository;
+import com.plants.backend.repository.PlantGroupRepository;
+import com.plants.backend.repository.PlantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the in-memory plant facet index and its normalization.
+ */
+class PlantFacetIndexTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PlantFacetIndex plantFacetIndex;
+
+    @Autowired
+    private PlantService plantService;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private PlantRepository plantRepository;
+
+    @Autowired
+    private PlantGroupRepository plantGroupRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String thumbnailId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        plantRepository.deleteAll();
+        plantGroupRepository.deleteAll();
+        imageRepository.deleteAll();
+
+        thumbnailId = imageService.uploadImage(
+                new MockMultipartFile("file", "thumb.jpg", "image/jpeg", "test".getBytes())).id();
+        for (String groupId : List.of("ferns", "succulents")) {
+            PlantGroup group = new PlantGroup();
+            group.setId(groupId);
+            group.setName(groupId);
+            plantGroupRepository.save(group);
+        }
+        // The repository deletes above bypass the change events
+        plantFacetIndex.rebuild();
+
+        createPlant("boston-fern", "ferns", "Up to 3 feet wide.", "Non-toxic to cats and dogs.",
+                "Air purifying", "Pet friendly");
+        createPlant("aloe", "succulents", "Reaches 12-24 inches (30-60 cm).", "Mildly toxic to pets.",
+                "Medicinal gel", "Low maintenance and drought tolerant");
+        createPlant("haworthia", "succulents", "Rosettes 3-5 inches across.", "Non-toxic to people and pets.",
+                "Compact size perfect for small spaces");
+    }
+
+    @Test
+    void search_withoutFilters_shouldCountEveryValue() {
+        // When
+        PlantFacetSearchResponse result = plantFacetIndex.search(Map.of(), 0, 50);
+
+        // Then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.facets().get(PlantFacets.TOXICITY)).containsExactlyInAnyOrderEntriesOf(
+                Map.of("pet-safe", 2L, "toxic", 1L));
+        assertThat(result.facets().get(PlantFacets.SIZE)).containsExactlyInAnyOrderEntriesOf(
+                Map.of("small", 1L, "medium", 1L, "large", 1L));
+        assertThat(result.facets().get(PlantFacets.BENEFIT)).containsEntry("drought-tolerant", 1L)
+                .containsEntry("compact", 1L);
+    }
+
+    @Test
+    void search_shouldIntersectFacetsAndUniteValuesOfOneFacet() {
+        // When: pet-safe AND (succulents OR ferns) AND small
+        PlantFacetSearchResponse result = plantFacetIndex.search(Map.of(
+                PlantFacets.TOXICITY, Set.of("pet-safe"),
+                PlantFacets.GROUP, Set.of("succulents", "ferns"),
+                PlantFacets.SIZE, Set.of("small")), 0, 50);
+
+        // Then
+        assertThat(result.plantIds()).containsExactly("haworthia");
+        // Counts for a facet ignore its own filter
+        assertThat(result.facets().get(PlantFacets.SIZE)).containsExactlyInAnyOrderEntriesOf(
+                Map.of("small", 1L, "large", 1L));
+    }
+
+    @Test
+    void onChange_shouldFollowUpdatesAndDeletes() throws Exception {
+        // When
+        plantService.patchPlant("aloe", objectMapper.readTree("{\"toxicity\": \"Safe for pets.\"}"));
+        plantService.deletePlant("boston-fern");
+
+        // Then
+        PlantFacetSearchResponse result = plantFacetIndex.search(
+                Map.of(PlantFacets.TOXICITY, Set.of("pet-safe")), 0, 50);
+        assertThat(result.plantIds()).containsExactlyInAnyOrder("aloe", "haworthia");
+        assertThat(result.facets().get(PlantFacets.GROUP)).containsOnlyKeys("succulents");
+    }
+
+    @Test
+    void search_shouldPage() {
+        // When
+        PlantFacetSearchResponse first = plantFacetIndex.search(Map.of(), 0, 2);
+        PlantFacetSearchResponse second = plantFacetIndex.search(Map.of(), 2, 2);
+
+        // Then
+        assertThat(first.total()).isEqualTo(3);
+        assertThat(first.plantIds()).hasSize(2);
+        assertThat(second.plantIds()).hasSize(1).doesNotContainAnyElementsOf(first.plantIds());
+    }
+
+    @Test
+    void of_withNegatedPetSafety_shouldBeToxicAndNotPetFriendly() {
+        // When
+        Map<String, List<String>> facets = PlantFacets.of("ferns", null, "Not safe for pets.",
+                new String[]{"Not pet-friendly, keep out of reach"});
+
+        // Then
+        assertThat(facets.get(PlantFacets.TOXICITY)).containsExactly("toxic");
+        assertThat(facets.get(PlantFacets.BENEFIT)).doesNotContain("pet-friendly");
+        assertThat(PlantFacets.toxicity("Not toxic, safe for pets.")).isEqualTo("pet-safe");
+    }
+
+    @Test
+    void toxicity_shouldOnlyBePetSafeWhenPetsAreSaidToBeSafe() {
+        assertThat(PlantFacets.toxicity("Toxic to cats and dogs; non-toxic to humans.")).isEqualTo("toxic");
+        assertThat(PlantFacets.toxicity("Toxic to cats and dogs, non-toxic to humans.")).isEqualTo("toxic");
+        assertThat(PlantFacets.toxicity("Non-toxic to cats and dogs.")).isEqualTo("pet-safe");
+        assertThat(PlantFacets.toxicity("Non-toxic.")).isEqualTo("unknown");
+        assertThat(PlantFacets.toxicity("Toxic if ingested.")).isEqualTo("unknown");
+    }
+
+    @Test
+    void parseFilters_withUnknownFacet_shouldThrowException() {
+        assertThatThrownBy(() -> PlantFacets.parseFilters(List.of("color:green")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown facet");
+    }
+
+    private void createPlant(String id, String groupId, String size, String toxicity, String... benefits) {
+        plantService.createPlant(new CreatePlantRequest(
+                id, groupId, id, id + " scientificus", thumbnailId, new String[]{},
+                "Description", size, toxicity, benefits,
+                new CareGuideDto("Water", "Light", "Temp", "Humidity", "Soil", "Fertilize"),
+                List.of()));
+    }
+}
@@ -1,16 +1,26 @@
 package com.plants.backend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.dto.CareGuideDto;
 import com.plants.backend.dto.CreatePlantGroupRequest;
+import com.plants.backend.dto.CreatePlantRequest;
+import com.plants.backend.dto.IssueDto;
 import com.plants.backend.dto.PlantGroupResponse;
+import com.plants.backend.dto.PlantGroupWithPlantsResponse;
+import com.plants.backend.dto.PlantSummaryResponse;
 import com.plants.backend.dto.UpdatePlantGroupRequest;
 import com.plants.backend.entity.Image;
 import com.plants.backend.exception.ResourceNotFoundException;
 import com.plants.backend.repository.ImageRepository;
 import com.plants.backend.repository.PlantGroupRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,6 +39,21 @@ class PlantGroupServiceTest extends BaseIntegrationTest {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private PlantService plantService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlantCountReconciler plantCountReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private String testImageId;
 
     @BeforeEach
@@ -187,4 +212,150 @@ class PlantGroupServiceTest extends BaseIntegrationTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Plant group not found");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getGroupWithPlants_shouldReturnGroupAndPlantsOrderedByNameInOneStatement() {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest("succulents", "Succulents & Cacti", testImageId));
+        createPlant("haworthia", "succulents", "Haworthia");
+        createPlant("aloe", "succulents", "Aloe Vera");
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        PlantGroupWithPlantsResponse group = plantGroupService.getGroupWithPlants("succulents");
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(group.name()).isEqualTo("Succulents & Cacti");
+        assertThat(group.imageId()).isEqualTo(testImageId);
+        assertThat(group.plants()).extracting(PlantSummaryResponse::id).containsExactly("aloe", "haworthia");
+        assertThat(group.plants().getFirst().thumbnailId()).isEqualTo(testImageId);
+    }
+
+    @Test
+    void getGroupWithPlants_shouldDistinguishEmptyGroupFromMissingGroup() {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest("empty", "Empty", null));
+
+        // When/Then
+        assertThat(plantGroupService.getGroupWithPlants("empty").plants()).isEmpty();
+        assertThatThrownBy(() -> plantGroupService.getGroupWithPlants("missing"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getAllGroupsWithPlants_shouldReturnFirstPlantsOfEveryGroupInOneStatement() {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest("succulents", "Succulents & Cacti", testImageId));
+        plantGroupService.createGroup(new CreatePlantGroupRequest("ferns", "Ferns", null));
+        plantGroupService.createGroup(new CreatePlantGroupRequest("empty", "Empty", null));
+        createPlant("haworthia", "succulents", "Haworthia");
+        createPlant("aloe", "succulents", "Aloe Vera");
+        createPlant("echeveria", "succulents", "Echeveria");
+        createPlant("boston-fern", "ferns", "Boston Fern");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<PlantGroupWithPlantsResponse> groups = plantGroupService.getAllGroupsWithPlants(2);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(groups).extracting(PlantGroupWithPlantsResponse::id).containsExactly("empty", "ferns", "succulents");
+        assertThat(groups.get(0).plants()).isEmpty();
+        assertThat(groups.get(1).plants()).extracting(PlantSummaryResponse::id).containsExactly("boston-fern");
+        assertThat(groups.get(2).plants()).extracting(PlantSummaryResponse::id).containsExactly("aloe", "echeveria");
+    }
+
+    @Test
+    void getAllGroupsWithPlants_shouldRejectInvalidPlantLimit() {
+        // When/Then
+        assertThatThrownBy(() -> plantGroupService.getAllGroupsWithPlants(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> plantGroupService.getAllGroupsWithPlants(PlantGroupService.MAX_PLANTS_PER_GROUP + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void plantCount_shouldFollowPlantCreationMovesAndDeletion() {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest("succulents", "Succulents & Cacti", testImageId));
+        plantGroupService.createGroup(new CreatePlantGroupRequest("ferns", "Ferns", null));
+
+        // When
+        createPlant("aloe", "succulents", "Aloe Vera");
+        createPlant("haworthia", "succulents", "Haworthia");
+
+        // Then
+        assertThat(plantGroupService.getGroupById("succulents").plantCount()).isEqualTo(2);
+
+        // When: a plant moves to another group
+        plantService.patchPlant("haworthia", objectMapper.createObjectNode().put("groupId", "ferns"));
+
+        // Then
+        assertThat(plantGroupService.getGroupById("succulents").plantCount()).isEqualTo(1);
+        assertThat(plantGroupService.getGroupById("ferns").plantCount()).isEqualTo(1);
+
+        // When
+        plantService.deletePlant("aloe");
+
+        // Then
+        assertThat(plantGroupService.getAllGroups())
+                .extracting(PlantGroupResponse::id, PlantGroupResponse::plantCount)
+                .containsExactlyInAnyOrder(tuple("succulents", 0), tuple("ferns", 1));
+    }
+
+    @Test
+    void reconcile_shouldCorrectDriftedCountsOnly() {
+        // Given
+        plantGroupService.createGroup(new CreatePlantGroupRequest("succulents", "Succulents & Cacti", testImageId));
+        plantGroupService.createGroup(new CreatePlantGroupRequest("ferns", "Ferns", null));
+        createPlant("aloe", "succulents", "Aloe Vera");
+        plantGroupService.getGroupById("succulents");
+        jdbcTemplate.update("UPDATE plant_groups SET plant_count = 7 WHERE id = 'succulents'");
+
+        // When
+        List<String> corrected = plantCountReconciler.reconcile();
+
+        // Then
+        assertThat(corrected).containsExactly("succulents");
+        assertThat(plantGroupService.getGroupById("succulents").plantCount()).isEqualTo(1);
+        assertThat(plantCountReconciler.reconcile()).isEmpty();
+    }
+
+    @Test
+    void reconcile_shouldEvictCachedGroupListsAfterCommit() {
+        // Given: the drifted count is cached in the group list query
+        plantGroupService.createGroup(new CreatePlantGroupRequest("ferns", "Ferns", null));
+        jdbcTemplate.update("UPDATE plant_groups SET plant_count = 7 WHERE id = 'ferns'");
+        entityManagerFactory.getCache().evictAll();
+        assertThat(plantGroupService.getAllGroups())
+                .extracting(PlantGroupResponse::plantCount).containsExactly(7);
+
+        // When
+        plantCountReconciler.reconcile();
+
+        // Then
+        assertThat(plantGroupService.getAllGroups())
+                .extracting(PlantGroupResponse::plantCount).containsExactly(0);
+    }
+
+    private void createPlant(String id, String groupId, String name) {
+        plantService.createPlant(new CreatePlantRequest(
+                id,
+                groupId,
+                name,
+                name + " scientificus",
+                testImageId,
+                new String[]{testImageId},
+                "Description",
+                "Small",
+                "Non-toxic",
+                new String[]{"Benefit 1", "Benefit 2", "Benefit 3", "Benefit 4"},
+                new CareGuideDto("Water", "Light", "Temp", "Humidity", "Soil", "Fertilize"),
+                List.of(new IssueDto("Issue 1", "Solution 1"), new IssueDto("Issue 2", "Solution 2"))
+        ));
+    }
+}
@@ -4,10 +4,14 @@ import com.plants.backend.BaseIntegrationTest;
 import com.plants.backend.dto.*;
 import com.plants.backend.entity.Image;
 import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.exception.InvalidReferenceException;
 import com.plants.backend.exception.ResourceNotFoundException;
 import com.plants.backend.repository.ImageRepository;
 import com.plants.backend.repository.PlantGroupRepository;
 import com.plants.backend.repository.PlantRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,6 +43,9 @@ class PlantServiceTest extends BaseIntegrationTest {
     @Autowired
     private ImageService imageService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private String groupId;
     private String thumbnailId;
     private String image1Id;
@@ -106,6 +113,37 @@ class PlantServiceTest extends BaseIntegrationTest {
         );
     }
 
+    private UpdatePlantRequest updateRequest(String[] imageIds, List<IssueDto> commonIssues) {
+        CreatePlantRequest request = createValidPlantRequest();
+        return new UpdatePlantRequest(
+                request.groupId(),
+                request.name(),
+                request.scientificName(),
+                request.thumbnailId(),
+                imageIds,
+                request.description(),
+                request.size(),
+                request.toxicity(),
+                request.benefits(),
+                request.care(),
+                commonIssues
+        );
+    }
+
+    /**
+     * Statements issued by an update that changes nothing, i.e. the reads every update needs.
+     * Caches are warmed first so that the following measured update does the same reads.
+     */
+    private long statementsForUnchangedUpdate(Statistics statistics) {
+        CreatePlantRequest request = createValidPlantRequest();
+        plantService.getPlantById(request.id());
+        statistics.clear();
+        plantService.updatePlant(request.id(), updateRequest(request.imageIds(), request.commonIssues()));
+        long statements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        return statements;
+    }
+
     @Test
     void createPlant_withValidData_shouldSucceed() {
         CreatePlantRequest request = createValidPlantRequest();
@@ -118,6 +156,9 @@ class PlantServiceTest extends BaseIntegrationTest {
         assertThat(response.groupId()).isEqualTo(groupId);
         assertThat(response.thumbnailId()).isEqualTo(thumbnailId);
         assertThat(response.imageIds()).containsExactly(image1Id, image2Id);
+        assertThat(response.thumbnail().id()).isEqualTo(thumbnailId);
+        assertThat(response.images()).extracting(ImageReferenceDto::id).containsExactly(image1Id, image2Id);
+        assertThat(response.images()).allSatisfy(image -> assertThat(image.byteSize()).isPositive());
         assertThat(response.benefits()).hasSize(4);
         assertThat(response.care()).isNotNull();
         assertThat(response.commonIssues()).hasSize(2);
@@ -202,6 +243,49 @@ class PlantServiceTest extends BaseIntegrationTest {
                 .hasMessageContaining("Image not found");
     }
 
+    @Test
+    void createPlant_withSeveralMissingReferences_shouldReportAllOfThem() {
+        // Given
+        CreatePlantRequest request = createValidPlantRequest();
+        CreatePlantRequest invalidRequest = new CreatePlantRequest(
+                "test-plant-2",
+                "non-existent-group",
+                request.name(),
+                request.scientificName(),
+                "non-existent-thumbnail",
+                new String[]{image1Id, "non-existent-image"},
+                request.description(),
+                request.size(),
+                request.toxicity(),
+                request.benefits(),
+                request.care(),
+                request.commonIssues()
+        );
+
+        // When / Then
+        assertThatThrownBy(() -> plantService.createPlant(invalidRequest))
+                .isInstanceOfSatisfying(InvalidReferenceException.class, ex ->
+                        assertThat(ex.getErrors()).extracting(ValidationError::field)
+                                .containsExactly("groupId", "thumbnailId", "imageIds[1]"));
+    }
+
+    @Test
+    void createPlant_shouldResolveImagesWithSingleQuery() {
+        // Given: a cold cache, so every reference has to come from the database
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        plantService.createPlant(createValidPlantRequest());
+
+        // Then: existence check, group lookup and one IN query for all images,
+        // plus the group plant count increment
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(4);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+    }
+
     @Test
     void getAllPlants_shouldReturnAllPlants() {
         plantService.createPlant(createValidPlantRequest());
@@ -239,6 +323,71 @@ class PlantServiceTest extends BaseIntegrationTest {
         assertThat(plant.id()).isEqualTo("test-plant");
     }
 
+    @Test
+    void getPlantById_repeatedRead_shouldBeServedFromSecondLevelCache() {
+        // Given: a plant whose detail has been read once
+        plantService.createPlant(createValidPlantRequest());
+        plantService.getPlantById("test-plant");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        PlantResponse plant = plantService.getPlantById("test-plant");
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(plant.imageIds()).containsExactly(image1Id, image2Id);
+        assertThat(plant.thumbnail().id()).isEqualTo(thumbnailId);
+        assertThat(plant.commonIssues()).hasSize(2);
+    }
+
+    @Test
+    void getPlantsByGroup_repeatedRead_shouldBeServedFromCaches() {
+        // Given: a group listing that has been read once
+        plantService.createPlant(createValidPlantRequest());
+        plantService.getPlantsByGroup(groupId);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<PlantSummaryResponse> plants = plantService.getPlantsByGroup(groupId);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(plants).extracting(PlantSummaryResponse::id).containsExactly("test-plant");
+    }
+
+    @Test
+    void updatePlant_shouldNotServeStaleCachedDetail() {
+        // Given: a cached plant detail
+        plantService.createPlant(createValidPlantRequest());
+        plantService.getPlantById("test-plant");
+
+        // When
+        CreatePlantRequest request = createValidPlantRequest();
+        plantService.updatePlant("test-plant", new UpdatePlantRequest(
+                request.groupId(),
+                "Renamed Plant",
+                request.scientificName(),
+                request.thumbnailId(),
+                new String[]{image2Id},
+                request.description(),
+                request.size(),
+                request.toxicity(),
+                request.benefits(),
+                request.care(),
+                request.commonIssues().subList(0, 1)
+        ));
+
+        // Then
+        PlantResponse plant = plantService.getPlantById("test-plant");
+        assertThat(plant.name()).isEqualTo("Renamed Plant");
+        assertThat(plant.imageIds()).containsExactly(image2Id);
+        assertThat(plant.commonIssues()).hasSize(1);
+    }
+
     @Test
     void getPlantById_withInvalidId_shouldThrowException() {
         assertThatThrownBy(() -> plantService.getPlantById("non-existent"))
@@ -286,6 +435,93 @@ class PlantServiceTest extends BaseIntegrationTest {
         assertThat(updated.commonIssues()).hasSize(2);
     }
 
+    @Test
+    void updatePlant_withUnchangedRequest_shouldNotWrite() {
+        // Given
+        CreatePlantRequest request = createValidPlantRequest();
+        plantService.createPlant(request);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        PlantResponse response = plantService.updatePlant("test-plant",
+                updateRequest(request.imageIds(), request.commonIssues()));
+
+        // Then
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(response.imageIds()).containsExactly(image1Id, image2Id);
+        assertThat(response.commonIssues()).hasSize(2);
+    }
+
+    @Test
+    void updatePlant_withEditedIssue_shouldUpdateSingleRow() {
+        // Given
+        CreatePlantRequest request = createValidPlantRequest();
+        plantService.createPlant(request);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long reads = statementsForUnchangedUpdate(statistics);
+
+        // When: fixing a typo in the second issue
+        List<IssueDto> issues = List.of(
+                request.commonIssues().get(0),
+                new IssueDto("Brown leaf tips", "Increase humidity")
+        );
+        PlantResponse response = plantService.updatePlant("test-plant", updateRequest(request.imageIds(), issues));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(reads + 1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(response.commonIssues()).extracting(IssueDto::issue)
+                .containsExactlyInAnyOrder("Yellow leaves", "Brown leaf tips");
+    }
+
+    @Test
+    void updatePlant_withAppendedImage_shouldInsertSingleRow() {
+        // Given
+        CreatePlantRequest request = createValidPlantRequest();
+        plantService.createPlant(request);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long reads = statementsForUnchangedUpdate(statistics);
+
+        // When
+        PlantResponse response = plantService.updatePlant("test-plant",
+                updateRequest(new String[]{image1Id, image2Id, thumbnailId}, request.commonIssues()));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(reads + 1);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(response.imageIds()).containsExactly(image1Id, image2Id, thumbnailId);
+        assertThat(plantService.getPlantById("test-plant").imageIds())
+                .containsExactly(image1Id, image2Id, thumbnailId);
+    }
+
+    @Test
+    void updatePlant_withRemovedIssue_shouldDeleteOnlyThatRow() {
+        // Given
+        CreatePlantRequest request = createValidPlantRequest();
+        plantService.createPlant(request);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statementsForUnchangedUpdate(statistics);
+
+        // When
+        plantService.updatePlant("test-plant",
+                updateRequest(request.imageIds(), request.commonIssues().subList(1, 2)));
+
+        // Then
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(plantService.getPlantById("test-plant").commonIssues())
+                .extracting(IssueDto::issue)
+                .containsExactly("Brown tips");
+    }
+
     @Test
     void updatePlant_withInvalidId_shouldThrowException() {
         UpdatePlantRequest request = new UpdatePlantRequest(
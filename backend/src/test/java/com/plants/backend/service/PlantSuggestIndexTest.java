@@ -0,0 +1,139 @@
+package com.plants.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.dto.CareGuideDto;
+import com.plants.backend.dto.CreatePlantRequest;
+import com.plants.backend.dto.PlantSuggestionResponse;
+import com.plants.backend.entity.PlantGroup;
+import com.plants.backend.repository.ImageRepository;
+import com.plants.backend.repository.PlantGroupRepository;
+import com.plants.backend.repository.PlantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the in-memory plant name suggest index.
+ */
+class PlantSuggestIndexTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PlantSuggestIndex plantSuggestIndex;
+
+    @Autowired
+    private PlantService plantService;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private PlantRepository plantRepository;
+
+    @Autowired
+    private PlantGroupRepository plantGroupRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String thumbnailId;
+
+    @BeforeEach
+    void setUp() {
+        plantRepository.deleteAll();
+        plantGroupRepository.deleteAll();
+        imageRepository.deleteAll();
+
+        thumbnailId = imageService.uploadImage(
+                new MockMultipartFile("file", "thumb.jpg", "image/jpeg", "test".getBytes())).id();
+        PlantGroup group = new PlantGroup();
+        group.setId("tropical");
+        group.setName("Tropical");
+        plantGroupRepository.save(group);
+        // The repository deletes above bypass the change events
+        plantSuggestIndex.rebuild();
+
+        createPlant("monstera", "Monstera", "Monstera deliciosa");
+        createPlant("mini-monstera", "Mini Monstera", "Rhaphidophora tetrasperma");
+        createPlant("maranta", "Prayer Plant", "Maranta leuconeura");
+        createPlant("cafe-au-lait", "Café au Lait Pothos", "Epipremnum aureum");
+    }
+
+    @Test
+    void suggest_shouldMatchCommonAndScientificNames() {
+        // When
+        List<String> byName = ids(plantSuggestIndex.suggest("Mon", 10));
+        List<String> byScientificName = ids(plantSuggestIndex.suggest("rhaphido", 10));
+
+        // Then
+        assertThat(byName).containsExactly("monstera");
+        assertThat(byScientificName).containsExactly("mini-monstera");
+        assertThat(plantSuggestIndex.suggest("monsterax", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_shouldIgnoreCaseDiacriticsAndExtraSpaces() {
+        assertThat(ids(plantSuggestIndex.suggest("cafe  AU", 10))).containsExactly("cafe-au-lait");
+        assertThat(ids(plantSuggestIndex.suggest("MÍNI", 10))).containsExactly("mini-monstera");
+    }
+
+    @Test
+    void suggest_shouldRankByViewsThenShorterName() {
+        // Given: "M" matches three plants; equal views favour the shorter name
+        assertThat(ids(plantSuggestIndex.suggest("m", 10)))
+                .containsExactly("monstera", "maranta", "mini-monstera");
+
+        // When
+        plantSuggestIndex.recordView("mini-monstera");
+        plantSuggestIndex.recordView("mini-monstera");
+        plantSuggestIndex.recordView("maranta");
+        plantSuggestIndex.applyViews();
+
+        // Then
+        assertThat(ids(plantSuggestIndex.suggest("m", 10)))
+                .containsExactly("mini-monstera", "maranta", "monstera");
+        assertThat(ids(plantSuggestIndex.suggest("m", 1))).containsExactly("mini-monstera");
+    }
+
+    @Test
+    void onChange_shouldFollowRenamesAndDeletes() throws Exception {
+        // When
+        plantService.patchPlant("maranta", objectMapper.readTree("{\"name\": \"Herringbone Plant\"}"));
+        plantService.deletePlant("monstera");
+
+        // Then
+        assertThat(plantSuggestIndex.suggest("prayer", 10)).isEmpty();
+        assertThat(plantSuggestIndex.suggest("herring", 10))
+                .containsExactly(new PlantSuggestionResponse("maranta", "Herringbone Plant", "Maranta leuconeura"));
+        assertThat(ids(plantSuggestIndex.suggest("mon", 10))).isEmpty();
+        assertThat(ids(plantSuggestIndex.suggest("m", 10))).containsExactly("maranta", "mini-monstera");
+    }
+
+    @Test
+    void suggest_withBlankPrefix_shouldThrowException() {
+        assertThatThrownBy(() -> plantSuggestIndex.suggest("  ", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("prefix");
+    }
+
+    private List<String> ids(List<PlantSuggestionResponse> suggestions) {
+        return suggestions.stream().map(PlantSuggestionResponse::id).toList();
+    }
+
+    private void createPlant(String id, String name, String scientificName) {
+        plantService.createPlant(new CreatePlantRequest(
+                id, "tropical", name, scientificName, thumbnailId, new String[]{},
+                "Description", "Size", "Toxicity", new String[]{"Benefit"},
+                new CareGuideDto("Water", "Light", "Temp", "Humidity", "Soil", "Fertilize"),
+                List.of()));
+    }
+}
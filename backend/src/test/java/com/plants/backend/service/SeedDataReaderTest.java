@@ -0,0 +1,99 @@
+package com.plants.backend.service;
+
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.dto.SeedPlant;
+import com.plants.backend.dto.SeedPlantGroup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the streaming seed data reader.
+ */
+class SeedDataReaderTest extends BaseIntegrationTest {
+
+    private static final String SEED_DATA = """
+            {
+              "version": {"format": 1, "tags": ["ignored"]},
+              "plantGroups": [
+                {"id": "g1", "name": "Group 1", "imageFilename": "g1.jpg"},
+                {"id": "g2", "name": "Group 2", "imageFilename": "g2.jpg"},
+                {"id": "g3", "name": "Group 3", "imageFilename": null}
+              ],
+              "plants": [
+                {"id": "p1", "groupId": "g1", "name": "Plant 1", "imageFilenames": ["a.jpg", "b.jpg"],
+                 "care": {"watering": "Weekly"}, "commonIssues": [{"issue": "Wilting", "solution": "Water"}]},
+                {"id": "p2", "groupId": "g2", "name": "Plant 2"}
+              ]
+            }
+            """;
+
+    @Autowired
+    private SeedDataReader seedDataReader;
+
+    @Test
+    void read_shouldHandOutRecordsInBatchesOfAtMostBatchSize() throws IOException {
+        // Given
+        List<List<SeedPlantGroup>> groupBatches = new ArrayList<>();
+        List<List<SeedPlant>> plantBatches = new ArrayList<>();
+
+        // When
+        seedDataReader.read(input(SEED_DATA), 2, groupBatches::add, plantBatches::add);
+
+        // Then
+        assertThat(groupBatches).extracting(List::size).containsExactly(2, 1);
+        assertThat(groupBatches.get(1).getFirst().id()).isEqualTo("g3");
+        assertThat(plantBatches).hasSize(1);
+        SeedPlant plant = plantBatches.getFirst().getFirst();
+        assertThat(plant.imageFilenames()).containsExactly("a.jpg", "b.jpg");
+        assertThat(plant.care().watering()).isEqualTo("Weekly");
+        assertThat(plant.commonIssues()).hasSize(1);
+    }
+
+    @Test
+    void count_shouldCountGroupsAndPlantsWithoutBindingThem() throws IOException {
+        // When
+        SeedDataReader.Counts counts = seedDataReader.count(input(SEED_DATA));
+
+        // Then
+        assertThat(counts).isEqualTo(new SeedDataReader.Counts(3, 2));
+    }
+
+    @Test
+    void read_withPlantsBeforeGroups_shouldFail() {
+        // Given
+        String json = """
+                {"plants": [{"id": "p1", "groupId": "g1"}], "plantGroups": [{"id": "g1"}]}
+                """;
+
+        // When / Then
+        assertThatThrownBy(() -> seedDataReader.read(input(json), 10, batch -> { }, batch -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("before");
+    }
+
+    @Test
+    void read_withTruncatedInput_shouldFail() {
+        // Given
+        String json = """
+                {"plantGroups": [{"id": "g1", "name": "Group 1"},
+                """;
+
+        // When / Then
+        assertThatThrownBy(() -> seedDataReader.read(input(json), 10, batch -> { }, batch -> { }))
+                .isInstanceOf(IOException.class);
+    }
+
+    private InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package com.plants.backend.service;
+
+import com.plants.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class SeedJobServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    private SeedJobService seedJobService;
+
+    @Test
+    void start_failureWithoutMessage_shouldRecordExceptionType() {
+        // When
+        SeedJob job = seedJobService.start(SeedJob.Type.GENERATE, progress -> {
+            throw new NullPointerException();
+        });
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> job.getStatus() != SeedJob.Status.RUNNING);
+        assertThat(job.getStatus()).isEqualTo(SeedJob.Status.FAILED);
+        assertThat(job.getError()).isEqualTo("java.lang.NullPointerException");
+    }
+}
@@ -16,8 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for SeedService.
@@ -40,6 +42,9 @@ class SeedServiceTest extends BaseIntegrationTest {
     @Autowired
     private IssueRepository issueRepository;
 
+    @Autowired
+    private ImageService imageService;
+
     @BeforeEach
     void setUp() {
         // Clean database before each test
@@ -65,10 +70,9 @@ class SeedServiceTest extends BaseIntegrationTest {
         assertThat(images).anyMatch(img -> img.getFilename().equals("aloe-vera-thumb.jpg"));
         assertThat(images).anyMatch(img -> img.getFilename().equals("aloe-detail-1.jpg"));
 
-        // Verify all images have bytes loaded
+        // Verify all images have bytes stored (the bytes attribute is lazy, so load it through the service)
         for (Image image : images) {
-            assertThat(image.getBytes()).isNotNull();
-            assertThat(image.getBytes()).isNotEmpty();
+            assertThat(imageService.getImageById(image.getId()).getBytes()).isNotEmpty();
             assertThat(image.getContentType()).isEqualTo("image/jpeg");
             assertThat(image.getCreatedDate()).isNotNull();
         }
@@ -221,6 +225,46 @@ class SeedServiceTest extends BaseIntegrationTest {
             .containsExactlyInAnyOrder("aloe-vera", "echeveria", "jade-plant", "snake-plant");
     }
 
+    @Test
+    void seedDatabase_shouldSetPlantCountOfEveryGroup() throws IOException {
+        // When
+        seedService.seedDatabase();
+
+        // Then
+        assertThat(plantGroupRepository.findAll()).allSatisfy(group ->
+                assertThat(group.getPlantCount()).isEqualTo(plantRepository.findByGroupId(group.getId()).size()));
+        assertThat(plantGroupRepository.findById("succulents")).get()
+                .extracting(PlantGroup::getPlantCount).isEqualTo(4);
+    }
+
+    @Test
+    void seedDatabase_shouldReportProgressOfEveryChunk() throws IOException {
+        // Given
+        SeedProgress progress = new SeedProgress();
+
+        // When
+        seedService.seedDatabase(progress);
+
+        // Then: every group and plant was counted
+        assertThat(progress.getPhase()).isEqualTo(SeedProgress.Phase.DONE);
+        assertThat(progress.getItemsTotal()).isEqualTo(plantGroupRepository.count() + plantRepository.count());
+        assertThat(progress.getItemsDone()).isEqualTo(progress.getItemsTotal());
+    }
+
+    @Test
+    void seedDatabase_whenCancelled_shouldStopBeforeNextChunk() {
+        // Given
+        SeedProgress progress = new SeedProgress();
+        progress.cancel();
+
+        // When / Then
+        assertThatThrownBy(() -> seedService.seedDatabase(progress))
+                .isInstanceOf(CancellationException.class);
+        assertThat(progress.getPhase()).isEqualTo(SeedProgress.Phase.GROUPS);
+        assertThat(progress.getItemsDone()).isZero();
+        assertThat(imageRepository.count()).isZero();
+    }
+
     @Test
     void seedDatabase_shouldHandleMultipleImageFormatsCorrectly() throws IOException {
         // When
@@ -0,0 +1,152 @@
+package com.plants.backend.service;
+
+import com.plants.backend.BaseIntegrationTest;
+import com.plants.backend.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest extends BaseIntegrationTest {
+
+    private static final int CALLERS = 8;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_concurrentCallersForSameKey_shouldShareOneLoad() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = newSingleFlight(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.load("plant-1", () -> {
+                loads.incrementAndGet();
+                awaitQuietly(release);
+                return "loaded";
+            })));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> coalesced() == CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void load_shouldRunSharedLoadInReadOnlyTransaction() {
+        // Given
+        SingleFlight<String, Boolean> singleFlight = newSingleFlight(Duration.ofSeconds(1));
+
+        // When
+        Boolean readOnly = singleFlight.load("plant-1", TransactionSynchronizationManager::isCurrentTransactionReadOnly);
+
+        // Then
+        assertThat(readOnly).isTrue();
+    }
+
+    @Test
+    void load_failedLoad_shouldPropagateExceptionToAllWaitingCallers() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = newSingleFlight(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.load("missing", () -> {
+                awaitQuietly(release);
+                throw new ResourceNotFoundException("Plant not found: missing");
+            })));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> coalesced() == CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Test
+    void load_waitingLongerThanTimeout_shouldLoadIndependently() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = newSingleFlight(Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> stuck = executor.submit(() -> singleFlight.load("plant-1", () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "slow";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // When
+            String result = singleFlight.load("plant-1", () -> "fast");
+
+            // Then
+            assertThat(result).isEqualTo("fast");
+            assertThat(meterRegistry.get("plants.single-flight.timeouts").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+        assertThat(stuck.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private <V> SingleFlight<String, V> newSingleFlight(Duration timeout) {
+        return new SingleFlight<>("test", timeout, transactionManager, meterRegistry);
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("plants.single-flight.coalesced").counter().count();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
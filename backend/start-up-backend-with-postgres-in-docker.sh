@@ -255,11 +255,29 @@ seed_database() {
   local body
   body=$(echo "${response}" | sed '$d')
 
-  if [[ "${http_code}" == "200" ]]; then
+  if [[ "${http_code}" != "202" ]]; then
+    log_error "Database seeding failed (HTTP ${http_code})"
+    echo "${body}"
+    exit 1
+  fi
+
+  # Seeding runs as a background job; poll its status until it finishes
+  local job_id
+  job_id=$(echo "${body}" | grep -o '"id":"[^"]*"' | sed 's/"id":"\(.*\)"/\1/')
+  local job_url="http://localhost:${BACKEND_PORT}/api/admin/seed-jobs/${job_id}"
+  local status="RUNNING"
+
+  while [[ "${status}" == "RUNNING" ]]; do
+    sleep 1
+    body=$(curl -s "${job_url}")
+    status=$(echo "${body}" | grep -o '"status":"[^"]*"' | sed 's/"status":"\(.*\)"/\1/')
+  done
+
+  if [[ "${status}" == "SUCCEEDED" ]]; then
     log_success "Database seeded successfully"
-    echo "${body}" | grep -o '"message":"[^"]*"' | sed 's/"message":"\(.*\)"/  → \1/'
+    echo "${body}" | grep -o '"itemsDone":[0-9]*' | sed 's/"itemsDone":\(.*\)/  → \1 items/'
   else
-    log_error "Database seeding failed (HTTP ${http_code})"
+    log_error "Database seeding ${status:-failed}"
     echo "${body}"
     exit 1
   fi
@@ -291,6 +309,7 @@ show_summary() {
   echo -e "    View logs:        tail -f ${BACKEND_LOG}"
   echo -e "    Seed database:    curl -X POST http://localhost:${BACKEND_PORT}/api/admin/seed"
   echo -e "    Reset database:   curl -X POST http://localhost:${BACKEND_PORT}/api/admin/reset"
+  echo -e "    Seed job status:  curl http://localhost:${BACKEND_PORT}/api/admin/seed-jobs/<id>"
   echo -e "    Stop backend:     lsof -ti:${BACKEND_PORT} | xargs kill"
   echo -e "    Stop PostgreSQL:  docker stop ${CONTAINER_NAME}"
   echo ""
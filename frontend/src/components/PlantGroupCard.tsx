@@ -4,10 +4,12 @@ import PlantImage from "@/components/PlantImage";
 interface PlantGroupCardProps {
   name: string;
   imageId: string;
+  imagePlaceholder?: string | null;
+  imageColor?: string | null;
   onClick: () => void;
 }
 
-const PlantGroupCard = ({ name, imageId, onClick }: PlantGroupCardProps) => {
+const PlantGroupCard = ({ name, imageId, imagePlaceholder, imageColor, onClick }: PlantGroupCardProps) => {
   return (
     <Card
       onClick={onClick}
@@ -17,6 +19,8 @@ const PlantGroupCard = ({ name, imageId, onClick }: PlantGroupCardProps) => {
         <PlantImage
           imageId={imageId}
           alt={name}
+          placeholder={imagePlaceholder}
+          color={imageColor}
           className="h-full w-full object-cover transition-transform duration-500 group-hover:scale-110"
         />
       </div>
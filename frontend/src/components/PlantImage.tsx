@@ -6,9 +6,11 @@ interface PlantImageProps {
   imageId: string;
   alt: string;
   className?: string;
+  placeholder?: string | null;
+  color?: string | null;
 }
 
-export const PlantImage = ({ imageId, alt, className = "" }: PlantImageProps) => {
+export const PlantImage = ({ imageId, alt, className = "", placeholder, color }: PlantImageProps) => {
   const [isLoading, setIsLoading] = useState(true);
   const [hasError, setHasError] = useState(false);
 
@@ -27,9 +29,19 @@ export const PlantImage = ({ imageId, alt, className = "" }: PlantImageProps) =>
 
   return (
     <>
-      {isLoading && (
+      {isLoading && placeholder && (
+        <img
+          src={placeholder}
+          alt=""
+          aria-hidden="true"
+          className={`blur-sm ${className}`}
+          style={color ? { backgroundColor: color } : undefined}
+        />
+      )}
+      {isLoading && !placeholder && (
         <div
           className={`animate-pulse bg-muted ${className}`}
+          style={color ? { backgroundColor: color } : undefined}
           aria-label="Loading image"
         />
       )}
@@ -26,6 +26,8 @@ const PlantList = ({ plants, selectedPlantId, onSelectPlant }: PlantListProps) =
               <PlantImage
                 imageId={plant.thumbnailId}
                 alt={plant.name}
+                placeholder={plant.thumbnailPlaceholder}
+                color={plant.thumbnailColor}
                 className="h-full w-full object-cover transition-transform duration-300 group-hover:scale-110"
               />
             </div>
@@ -1,6 +1,7 @@
-import { useQuery } from "@tanstack/react-query";
-import { apiClient } from "@/lib/api";
-import type { PlantGroup, Plant } from "@/types/api";
+import { useEffect } from "react";
+import { useQuery, useQueryClient } from "@tanstack/react-query";
+import { apiClient, API_BASE_URL } from "@/lib/api";
+import type { PlantGroup, Plant, CatalogChange } from "@/types/api";
 
 /**
  * Hook to fetch all plant groups
@@ -19,7 +20,7 @@ export const usePlantGroups = () => {
 export const usePlantsByGroup = (groupId: string | null) => {
   return useQuery<Plant[]>({
     queryKey: ["plants", "byGroup", groupId],
-    queryFn: () => apiClient.fetchPlantsByGroup(groupId!),
+    queryFn: async () => (await apiClient.fetchPlantGroupWithPlants(groupId!)).plants,
     enabled: !!groupId, // Only run query if groupId is provided
     staleTime: 5 * 60 * 1000, // 5 minutes
   });
@@ -36,3 +37,44 @@ export const usePlant = (plantId: string | null) => {
     staleTime: 5 * 60 * 1000, // 5 minutes
   });
 };
+
+/**
+ * Subscribe to the server change feed and invalidate exactly the affected queries.
+ * EventSource reconnects on its own and resumes from the last event id it saw.
+ */
+export const useCatalogChanges = () => {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    const source = new EventSource(`${API_BASE_URL}/api/changes`);
+
+    source.addEventListener("change", (event) => {
+      const change: CatalogChange = JSON.parse((event as MessageEvent).data);
+      switch (change.entity) {
+        case "PLANT":
+          queryClient.invalidateQueries({ queryKey: ["plant", change.id] });
+          // Membership and group plant counts may have changed
+          queryClient.invalidateQueries({ queryKey: ["plants", "byGroup"] });
+          queryClient.invalidateQueries({ queryKey: ["plantGroups"] });
+          break;
+        case "GROUP":
+          queryClient.invalidateQueries({ queryKey: ["plantGroups"] });
+          queryClient.invalidateQueries({ queryKey: ["plants", "byGroup", change.id] });
+          break;
+        case "IMAGE":
+          // Lists embed image placeholders; new images are not referenced yet
+          if (change.type !== "CREATED") {
+            queryClient.invalidateQueries({ queryKey: ["plantGroups"] });
+            queryClient.invalidateQueries({ queryKey: ["plants"] });
+            queryClient.invalidateQueries({ queryKey: ["plant"] });
+          }
+          break;
+      }
+    });
+    source.addEventListener("reset", () => {
+      queryClient.invalidateQueries();
+    });
+
+    return () => source.close();
+  }, [queryClient]);
+};
@@ -1,11 +1,11 @@
-import type { PlantGroup, Plant, ApiError } from "@/types/api";
+import type { PlantGroup, PlantGroupWithPlants, Plant, ApiError } from "@/types/api";
 
 /**
  * API Base URL
  * - In development: Empty string (uses Vite proxy to localhost:8080)
  * - In production: Full URL to backend API
  */
-const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || "";
+export const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || "";
 
 class ApiClient {
   private baseUrl: string;
@@ -72,6 +72,14 @@ class ApiClient {
     return this.fetch<Plant[]>(`/api/plant-groups/${groupId}/plants`);
   }
 
+  /**
+   * Fetches a plant group together with all its plants in one request
+   * GET /api/plant-groups/{groupId}?include=plants
+   */
+  async fetchPlantGroupWithPlants(groupId: string): Promise<PlantGroupWithPlants> {
+    return this.fetch<PlantGroupWithPlants>(`/api/plant-groups/${groupId}?include=plants`);
+  }
+
   /**
    * Fetches detailed information for a specific plant
    * GET /api/plants/{plantId}
@@ -1,5 +1,5 @@
 import { useState } from "react";
-import { usePlantGroups, usePlantsByGroup, usePlant } from "@/hooks/usePlants";
+import { usePlantGroups, usePlantsByGroup, usePlant, useCatalogChanges } from "@/hooks/usePlants";
 import PlantGroupCard from "@/components/PlantGroupCard";
 import PlantList from "@/components/PlantList";
 import PlantDetail from "@/components/PlantDetail";
@@ -11,6 +11,9 @@ const Index = () => {
   const [selectedGroupId, setSelectedGroupId] = useState<string | null>(null);
   const [selectedPlantId, setSelectedPlantId] = useState<string | null>(null);
 
+  // Keep cached data in sync with server-side changes
+  useCatalogChanges();
+
   // Fetch data using React Query hooks
   const { data: plantGroups = [], isLoading: isLoadingGroups, error: groupsError } = usePlantGroups();
   const { data: groupPlants = [], isLoading: isLoadingPlants, error: plantsError } = usePlantsByGroup(selectedGroupId);
@@ -81,6 +84,8 @@ const Index = () => {
                     key={group.id}
                     name={group.name}
                     imageId={group.imageId}
+                    imagePlaceholder={group.imagePlaceholder}
+                    imageColor={group.imageColor}
                     onClick={() => handleGroupClick(group.id)}
                   />
                 ))}
@@ -4,6 +4,23 @@ export interface PlantGroup {
   id: string;
   name: string;
   imageId: string;
+  imagePlaceholder?: string | null;
+  imageColor?: string | null;
+  plantCount: number;
+}
+
+/**
+ * Plant group with the summaries of its plants (GET /api/plant-groups/{id}?include=plants)
+ */
+export interface PlantGroupWithPlants extends PlantGroup {
+  plants: Plant[];
+}
+
+export interface ImageReference {
+  id: string;
+  width: number | null;
+  height: number | null;
+  byteSize: number | null;
 }
 
 export interface CareGuide {
@@ -26,7 +43,11 @@ export interface Plant {
   name: string;
   scientificName: string;
   thumbnailId: string;
+  thumbnailPlaceholder?: string | null;
+  thumbnailColor?: string | null;
   imageIds: string[];
+  thumbnail?: ImageReference | null;
+  images?: ImageReference[];
   description: string;
   size: string;
   toxicity: string;
@@ -40,3 +61,13 @@ export interface ApiError {
   message: string;
   status: number;
 }
+
+/**
+ * Entry of the /api/changes Server-Sent Events feed
+ */
+export interface CatalogChange {
+  version: number;
+  entity: "PLANT" | "GROUP" | "IMAGE" | "CATALOG";
+  id?: string;
+  type: "CREATED" | "UPDATED" | "DELETED" | "RESET";
+}